@@ -1,13 +1,22 @@
 package live.rift;
 
+import java.awt.Font;
+import java.lang.management.ManagementFactory;
 import java.util.Iterator;
 import live.rift.command.CommandManager;
 import live.rift.config.Configuration;
 import live.rift.event.ForgeEvents;
+import live.rift.font.CFont;
+import live.rift.font.CFontRenderer;
 import live.rift.friends.Friends;
 import live.rift.gui.ClickGui;
 import live.rift.module.Module;
 import live.rift.setting.SettingManager;
+import live.rift.util.BlockIndex;
+import live.rift.util.HoleIndex;
+import live.rift.util.InitGraph;
+import live.rift.util.SnapshotManager;
+import live.rift.util.StartupTracer;
 import live.rift.util.TickRateManager;
 import me.zero.alpine.EventBus;
 import me.zero.alpine.EventManager;
@@ -30,7 +39,7 @@ public class RiftMod {
     public static final String MODID = "rift";
     public static final String NAME = "RIFT";
     public static final String VERSION = "b1.0.3";
-    public static final EventBus EVENT_BUS = new EventManager();
+    public static final EventBus EVENT_BUS = new EventManager(true);
     public static SettingManager setmgr;
     public static Logger logger;
     public static ForgeEvents fevents;
@@ -38,39 +47,102 @@ public class RiftMod {
     public static CommandManager cmdmanager;
     public static Friends friends;
     private static TickRateManager tickRateManager;
+    private static BlockIndex blockIndex;
+    private static HoleIndex holeIndex;
+    private static SnapshotManager snapshotManager;
+    private static long startTime;
+    private static boolean reachedTitle;
 
     @EventHandler
     public void preInit(FMLPreInitializationEvent event) {
+        StartupTracer.Span span = StartupTracer.begin("preInit");
+
         RiftMod.logger = event.getModLog();
+        RiftMod.startTime = System.currentTimeMillis();
+        span.end();
     }
 
     @EventHandler
     public void init(FMLInitializationEvent event) {
-        RiftMod.setmgr = new SettingManager();
-        MinecraftForge.EVENT_BUS.register(RiftMod.fevents = new ForgeEvents());
-        RiftMod.clickgui = new ClickGui();
-        RiftMod.cmdmanager = new CommandManager();
-        RiftMod.tickRateManager = new TickRateManager();
+        InitGraph graph = new InitGraph("init");
+
+        graph.async("font:arial-26", () -> {
+            CFontRenderer.prerender(new Font("Arial", 0, 26), true, false);
+        }, new String[0]);
+        graph.async("font:arial-22", () -> {
+            CFontRenderer.prerender(new Font("Arial", 0, 22), true, false);
+        }, new String[0]);
+        graph.async("font:arial-18", () -> {
+            CFontRenderer.prerender(new Font("Arial", 0, 18), true, false);
+        }, new String[0]);
+        graph.async("font:verdana-18", () -> {
+            CFontRenderer.prerender(new Font("Verdana", 0, 18), true, false);
+        }, new String[0]);
+        graph.async("discord", DiscordPresence::start, new String[0]);
+        graph.main("settings", () -> {
+            RiftMod.setmgr = new SettingManager();
+        }, new String[0]);
+        graph.main("commands", () -> {
+            RiftMod.cmdmanager = new CommandManager();
+        }, new String[0]);
+        graph.main("tickrate", () -> {
+            RiftMod.tickRateManager = new TickRateManager();
+        }, new String[0]);
+        graph.main("blocks", () -> {
+            RiftMod.blockIndex = new BlockIndex();
+        }, new String[0]);
+        graph.main("holes", () -> {
+            RiftMod.holeIndex = new HoleIndex();
+        }, new String[0]);
+        graph.main("snapshots", () -> {
+            RiftMod.snapshotManager = new SnapshotManager();
+        }, new String[0]);
+        graph.main("modules", () -> {
+            MinecraftForge.EVENT_BUS.register(RiftMod.fevents = new ForgeEvents());
+        }, new String[] { "settings", "font:arial-26", "font:arial-22", "font:arial-18"});
+        graph.main("clickgui", () -> {
+            RiftMod.clickgui = new ClickGui();
+        }, new String[] { "modules", "font:verdana-18"});
+        graph.run();
         RiftMod.logger.info("-RIFT- : PREINIT");
-        DiscordPresence.start();
     }
 
     @EventHandler
     public void init(FMLPostInitializationEvent event) {
-        Configuration conf = new Configuration();
+        InitGraph graph = new InitGraph("post-init");
 
-        RiftMod.friends = new Friends();
-        Display.setTitle("Rift b1.0.3");
-        conf.createConfig(RiftMod.fevents.moduleManager, RiftMod.setmgr);
-        Iterator iterator = RiftMod.fevents.moduleManager.modules.iterator();
+        graph.async("friends", () -> {
+            RiftMod.friends = new Friends();
+            RiftMod.friends.createFriends();
+        }, new String[0]);
+        graph.main("title", () -> {
+            Display.setTitle("Rift b1.0.3");
+        }, new String[0]);
+        graph.main("config", () -> {
+            Configuration conf = new Configuration();
 
-        while (iterator.hasNext()) {
-            Module m = (Module) iterator.next();
+            conf.createConfig(RiftMod.fevents.moduleManager, RiftMod.setmgr);
+            Iterator iterator = RiftMod.fevents.moduleManager.modules.iterator();
 
-            conf.loadSettings(m);
-        }
+            while (iterator.hasNext()) {
+                Module m = (Module) iterator.next();
+                StartupTracer.Span span = StartupTracer.begin("loadSettings " + m.getName());
+
+                conf.loadSettings(m);
+                span.end();
+            }
 
-        RiftMod.friends.createFriends();
+        }, new String[0]);
+        graph.run();
+    }
+
+    public static void onTitleScreen() {
+        if (!RiftMod.reachedTitle) {
+            RiftMod.reachedTitle = true;
+            CFont.releasePrerendered();
+            StartupTracer.finish();
+            RiftMod.logger.info("[Rift] Title screen reached " + (System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime()) + "ms after launch, " + (System.currentTimeMillis() - RiftMod.startTime) + "ms after pre-init");
+        }
     }
 
     public static void save() {
@@ -84,4 +156,16 @@ public class RiftMod {
     public static TickRateManager GetTickRateManager() {
         return RiftMod.tickRateManager;
     }
+
+    public static BlockIndex GetBlockIndex() {
+        return RiftMod.blockIndex;
+    }
+
+    public static HoleIndex GetHoleIndex() {
+        return RiftMod.holeIndex;
+    }
+
+    public static SnapshotManager GetSnapshotManager() {
+        return RiftMod.snapshotManager;
+    }
 }
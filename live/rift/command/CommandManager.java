@@ -3,7 +3,9 @@ package live.rift.command;
 import java.util.ArrayList;
 import java.util.Iterator;
 import live.rift.command.commands.Friend;
+import live.rift.command.commands.GLStats;
 import live.rift.command.commands.Help;
+import live.rift.command.commands.Listeners;
 import live.rift.command.commands.Set;
 import live.rift.command.commands.Status;
 import live.rift.message.Messages;
@@ -17,6 +19,8 @@ public class CommandManager {
         this.cmds.add(new Help());
         this.cmds.add(new Status());
         this.cmds.add(new Set());
+        this.cmds.add(new Listeners());
+        this.cmds.add(new GLStats());
     }
 
     public void handleCMD(String msg) {
@@ -0,0 +1,23 @@
+package live.rift.command.commands;
+
+import java.util.List;
+import live.rift.command.Command;
+import live.rift.message.Messages;
+import live.rift.util.ShapeBuffer;
+
+public class GLStats extends Command {
+
+    public GLStats() {
+        this.cmd = "glstats";
+        this.aliases.add("gl");
+        this.desc = "Show shape draws and estimated GL calls in the last frame";
+    }
+
+    public void handleCommand(String msg, List args) {
+        int immediate = ShapeBuffer.getEstimatedImmediateCalls();
+        int buffered = ShapeBuffer.getEstimatedBufferedCalls();
+
+        Messages.sendChatMessage("Shapes last frame: &f" + ShapeBuffer.getDraws() + " draws, " + ShapeBuffer.getVertices() + " vertices");
+        Messages.sendChatMessage("Estimated GL calls: &f~" + buffered + " buffered &7(~" + immediate + " in immediate mode" + (buffered == 0 ? "" : ", " + immediate / buffered + "x") + ")");
+    }
+}
@@ -0,0 +1,123 @@
+package live.rift.command.commands;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import live.rift.RiftMod;
+import live.rift.command.Command;
+import live.rift.message.Messages;
+import me.zero.alpine.EventManager;
+import me.zero.alpine.metrics.ListenerStats;
+import net.minecraft.client.Minecraft;
+
+public class Listeners extends Command {
+
+    public Listeners() {
+        this.cmd = "listeners";
+        this.aliases.add("lstats");
+        this.aliases.add("busstats");
+        this.desc = "Profile event listeners <on/off/top/reset/dump>";
+    }
+
+    public void handleCommand(String msg, List args) {
+        if (!(RiftMod.EVENT_BUS instanceof EventManager)) {
+            Messages.sendChatMessage("&cThe event bus does not support listener metrics.");
+        } else {
+            EventManager bus = (EventManager) RiftMod.EVENT_BUS;
+            String action = this.argExists(args, 1) ? ((String) args.get(1)).toLowerCase() : "top";
+
+            if (action.equals("on")) {
+                bus.setMetricsEnabled(true);
+                Messages.sendChatMessage("Listener metrics &aenabled&f.");
+            } else if (action.equals("off")) {
+                bus.setMetricsEnabled(false);
+                Messages.sendChatMessage("Listener metrics &cdisabled&f.");
+            } else if (action.equals("reset")) {
+                bus.resetMetrics();
+                Messages.sendChatMessage("Listener metrics reset.");
+            } else if (action.equals("dump")) {
+                File file = this.dump(bus);
+
+                if (file != null) {
+                    Messages.sendChatMessage("Listener metrics written to &7" + file.getName());
+                }
+            } else if (action.equals("top")) {
+                List stats = sorted(bus);
+
+                if (!bus.isMetricsEnabled() && stats.isEmpty()) {
+                    Messages.sendChatMessage("Listener metrics are off, use &7listeners on&f first.");
+                } else {
+                    Messages.sendChatMessage("Slowest listeners (total ms / max us / calls):");
+
+                    for (int i = 0; i < stats.size() && i < 10; ++i) {
+                        ListenerStats s = (ListenerStats) stats.get(i);
+
+                        Messages.sendMessage("&f" + s.getSubscriber().getSimpleName() + " &7" + s.getEvent().getSimpleName() + " &f" + s.getTotalNanos() / 1000000L + " / " + s.getMaxNanos() / 1000L + " / " + s.getInvocations());
+                    }
+                }
+            } else {
+                Messages.sendChatMessage("&cUsage: listeners <on/off/top/reset/dump>");
+            }
+
+        }
+    }
+
+    private static List sorted(EventManager bus) {
+        ArrayList stats = new ArrayList(bus.getMetrics());
+
+        stats.sort(Comparator.comparingLong(ListenerStats::getTotalNanos).reversed());
+        return stats;
+    }
+
+    private File dump(EventManager bus) {
+        File dir = new File(Minecraft.getMinecraft().gameDir.getAbsolutePath(), File.separator + "RiftMod" + File.separator);
+
+        if (!dir.exists()) {
+            dir.mkdir();
+        }
+
+        File file = new File(dir, "listeners-" + System.currentTimeMillis() + ".csv");
+
+        try {
+            PrintWriter writer = new PrintWriter(new FileWriter(file));
+            Throwable throwable = null;
+
+            try {
+                writer.println("subscriber,event,invocations,total_ns,max_ns,mean_ns,cancellations");
+                Iterator iterator = sorted(bus).iterator();
+
+                while (iterator.hasNext()) {
+                    ListenerStats s = (ListenerStats) iterator.next();
+                    long calls = s.getInvocations();
+
+                    writer.println(s.getSubscriber().getName() + "," + s.getEvent().getName() + "," + calls + "," + s.getTotalNanos() + "," + s.getMaxNanos() + "," + (calls == 0L ? 0L : s.getTotalNanos() / calls) + "," + s.getCancellations());
+                }
+            } catch (Throwable throwable1) {
+                throwable = throwable1;
+                throw throwable1;
+            } finally {
+                if (throwable != null) {
+                    try {
+                        writer.close();
+                    } catch (Throwable throwable2) {
+                        throwable.addSuppressed(throwable2);
+                    }
+                } else {
+                    writer.close();
+                }
+
+            }
+
+            return file;
+        } catch (IOException ioexception) {
+            ioexception.printStackTrace();
+            Messages.sendChatMessage("&cCould not write listener metrics: " + ioexception.getMessage());
+            return null;
+        }
+    }
+}
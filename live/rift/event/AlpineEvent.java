@@ -1,16 +1,20 @@
 package live.rift.event;
 
 import me.zero.alpine.type.Cancellable;
+import me.zero.alpine.type.Retainable;
 import net.minecraft.client.Minecraft;
 
-public class AlpineEvent extends Cancellable {
+public class AlpineEvent extends Cancellable implements Retainable {
 
     private AlpineEvent.Era era;
-    final float partialTicks;
+    float partialTicks;
+    EventPool pool;
+    boolean pooled;
+    private boolean retained;
 
     public AlpineEvent() {
         this.era = AlpineEvent.Era.PRE;
-        this.partialTicks = Minecraft.getMinecraft().getRenderPartialTicks();
+        this.partialTicks = AlpineEvent.renderPartialTicks();
     }
 
     public AlpineEvent.Era getEra() {
@@ -21,6 +25,36 @@ public class AlpineEvent extends Cancellable {
         return this.partialTicks;
     }
 
+    public void retain() {
+        this.retained = true;
+    }
+
+    public boolean isRetained() {
+        return this.retained;
+    }
+
+    public void release() {
+        if (this.pool != null && !this.retained && !this.pooled) {
+            this.pooled = true;
+            this.pool.release(this);
+        }
+
+    }
+
+    void recycle() {
+        this.era = AlpineEvent.Era.PRE;
+        this.partialTicks = AlpineEvent.renderPartialTicks();
+        this.retained = false;
+        this.pooled = false;
+        this.setCancelled(false);
+    }
+
+    private static float renderPartialTicks() {
+        Minecraft mc = Minecraft.getMinecraft();
+
+        return mc == null ? 0.0F : mc.getRenderPartialTicks();
+    }
+
     public static enum Era {
 
         PRE, PERI, POST;
@@ -0,0 +1,40 @@
+package live.rift.event;
+
+import java.util.ArrayDeque;
+import java.util.function.Supplier;
+
+public class EventPool {
+
+    private static final int MAX_POOLED = 8;
+    private final Supplier factory;
+    private final ThreadLocal free;
+
+    public EventPool(Supplier factory) {
+        this.factory = factory;
+        this.free = ThreadLocal.withInitial(ArrayDeque::new);
+    }
+
+    public AlpineEvent acquire() {
+        ArrayDeque events = (ArrayDeque) this.free.get();
+        AlpineEvent event;
+
+        if (events.isEmpty()) {
+            event = (AlpineEvent) this.factory.get();
+            event.pool = this;
+        } else {
+            event = (AlpineEvent) events.pop();
+        }
+
+        event.recycle();
+        return event;
+    }
+
+    void release(AlpineEvent event) {
+        ArrayDeque events = (ArrayDeque) this.free.get();
+
+        if (events.size() < EventPool.MAX_POOLED) {
+            events.push(event);
+        }
+
+    }
+}
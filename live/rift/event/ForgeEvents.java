@@ -1,17 +1,24 @@
 package live.rift.event;
 
-import java.util.Iterator;
-import live.rift.module.Module;
+import live.rift.RiftMod;
+import live.rift.font.GlyphCache;
 import live.rift.module.ModuleManager;
+import live.rift.module.modules.misc.Freecam;
+import live.rift.util.ShapeBuffer;
+import live.rift.util.SnapshotManager;
 import net.minecraft.client.Minecraft;
+import net.minecraft.client.gui.GuiMainMenu;
 import net.minecraft.client.renderer.GlStateManager;
 import net.minecraft.entity.passive.AbstractHorse;
+import net.minecraftforge.client.event.GuiOpenEvent;
 import net.minecraftforge.client.event.PlayerSPPushOutOfBlocksEvent;
 import net.minecraftforge.client.event.RenderWorldLastEvent;
 import net.minecraftforge.client.event.RenderGameOverlayEvent.ElementType;
 import net.minecraftforge.client.event.RenderGameOverlayEvent.Post;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import net.minecraftforge.fml.common.gameevent.TickEvent.ClientTickEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent.Phase;
+import net.minecraftforge.fml.common.gameevent.TickEvent.RenderTickEvent;
 import org.lwjgl.opengl.GL11;
 
 public class ForgeEvents {
@@ -22,25 +29,40 @@ public class ForgeEvents {
     @SubscribeEvent
     public void pushOutEvent(PlayerSPPushOutOfBlocksEvent event) {
         if (this.mc.player != null) {
-            if (this.moduleManager.getModule("Freecam") != null && this.moduleManager.getModule("Freecam").isEnabled()) {
+            if (this.moduleManager.getModule(Freecam.class) != null && this.moduleManager.getModule(Freecam.class).isEnabled()) {
                 event.setCanceled(true);
             }
 
         }
     }
 
+    @SubscribeEvent
+    public void onGuiOpen(GuiOpenEvent event) {
+        if (event.getGui() instanceof GuiMainMenu) {
+            RiftMod.onTitleScreen();
+        }
+
+    }
+
     @SubscribeEvent
     public void onUpdate(ClientTickEvent event) {
         if (this.mc.player != null) {
-            Iterator iterator = this.moduleManager.getEnabledModules().iterator();
+            this.moduleManager.onTick(event.phase == Phase.START);
+        }
 
-            while (iterator.hasNext()) {
-                Module m = (Module) iterator.next();
+        if (event.phase == Phase.END) {
+            SnapshotManager.Get().update();
+        }
 
-                m.onUpdate();
-            }
+    }
 
+    @SubscribeEvent
+    public void onRenderTick(RenderTickEvent event) {
+        if (event.phase == Phase.START) {
+            ShapeBuffer.nextFrame();
+            GlyphCache.nextFrame();
         }
+
     }
 
     @SubscribeEvent
@@ -52,13 +74,7 @@ public class ForgeEvents {
         }
 
         if (event.getType() == target) {
-            Iterator iterator = this.moduleManager.getEnabledModules().iterator();
-
-            while (iterator.hasNext()) {
-                Module module = (Module) iterator.next();
-
-                module.onRender();
-            }
+            this.moduleManager.onRender();
 
             GL11.glPushMatrix();
             GL11.glPopMatrix();
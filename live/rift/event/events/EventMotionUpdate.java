@@ -1,10 +1,12 @@
 package live.rift.event.events;
 
 import live.rift.event.AlpineEvent;
+import live.rift.event.EventPool;
 import net.minecraft.client.entity.EntityPlayerSP;
 
 public class EventMotionUpdate extends AlpineEvent {
 
+    private static final EventPool POOL = new EventPool(EventMotionUpdate::new);
     private AlpineEvent.Era type;
     private EntityPlayerSP player;
     private float yaw;
@@ -29,6 +31,20 @@ public class EventMotionUpdate extends AlpineEvent {
         this.type = AlpineEvent.Era.POST;
     }
 
+    public static EventMotionUpdate obtain(AlpineEvent.Era type, EntityPlayerSP player, float yaw, float pitch, double x, double y, double z, boolean onGround) {
+        EventMotionUpdate event = (EventMotionUpdate) EventMotionUpdate.POOL.acquire();
+
+        event.type = type;
+        event.player = player;
+        event.yaw = yaw;
+        event.pitch = pitch;
+        event.x = x;
+        event.y = y;
+        event.z = z;
+        event.onGround = onGround;
+        return event;
+    }
+
     public void setType(AlpineEvent.Era type) {
         this.type = type;
     }
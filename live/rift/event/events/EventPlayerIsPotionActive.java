@@ -1,13 +1,24 @@
 package live.rift.event.events;
 
 import live.rift.event.AlpineEvent;
+import live.rift.event.EventPool;
 import net.minecraft.potion.Potion;
 
 public class EventPlayerIsPotionActive extends AlpineEvent {
 
+    private static final EventPool POOL = new EventPool(() -> {
+        return new EventPlayerIsPotionActive((Potion) null);
+    });
     public Potion potion;
 
     public EventPlayerIsPotionActive(Potion p_Potion) {
         this.potion = p_Potion;
     }
+
+    public static EventPlayerIsPotionActive obtain(Potion p_Potion) {
+        EventPlayerIsPotionActive event = (EventPlayerIsPotionActive) EventPlayerIsPotionActive.POOL.acquire();
+
+        event.potion = p_Potion;
+        return event;
+    }
 }
@@ -1,9 +1,13 @@
 package live.rift.event.events;
 
 import live.rift.event.AlpineEvent;
+import live.rift.event.EventPool;
 
 public class EventPlayerJump extends AlpineEvent {
 
+    private static final EventPool POOL = new EventPool(() -> {
+        return new EventPlayerJump(0.0D, 0.0D);
+    });
     public double MotionX;
     public double MotionY;
 
@@ -11,4 +15,12 @@ public class EventPlayerJump extends AlpineEvent {
         this.MotionX = p_MotionX;
         this.MotionY = p_MotionY;
     }
+
+    public static EventPlayerJump obtain(double p_MotionX, double p_MotionY) {
+        EventPlayerJump event = (EventPlayerJump) EventPlayerJump.POOL.acquire();
+
+        event.MotionX = p_MotionX;
+        event.MotionY = p_MotionY;
+        return event;
+    }
 }
@@ -1,7 +1,13 @@
 package live.rift.event.events;
 
 import live.rift.event.AlpineEvent;
+import live.rift.event.EventPool;
 
 public class EventPlayerTravel extends AlpineEvent {
 
+    private static final EventPool POOL = new EventPool(EventPlayerTravel::new);
+
+    public static EventPlayerTravel obtain() {
+        return (EventPlayerTravel) EventPlayerTravel.POOL.acquire();
+    }
 }
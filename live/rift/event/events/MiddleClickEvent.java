@@ -1,7 +1,13 @@
 package live.rift.event.events;
 
 import live.rift.event.AlpineEvent;
+import live.rift.event.EventPool;
 
 public class MiddleClickEvent extends AlpineEvent {
 
+    private static final EventPool POOL = new EventPool(MiddleClickEvent::new);
+
+    public static MiddleClickEvent obtain() {
+        return (MiddleClickEvent) MiddleClickEvent.POOL.acquire();
+    }
 }
@@ -1,11 +1,13 @@
 package live.rift.event.events;
 
 import live.rift.event.AlpineEvent;
+import live.rift.event.EventPool;
+import me.zero.alpine.type.Keyed;
 import net.minecraft.network.Packet;
 
-public class PacketEvent extends AlpineEvent {
+public class PacketEvent extends AlpineEvent implements Keyed {
 
-    private final Packet packet;
+    private Packet packet;
 
     public PacketEvent(Packet packet) {
         this.packet = packet;
@@ -15,17 +17,43 @@ public class PacketEvent extends AlpineEvent {
         return this.packet;
     }
 
+    public Class getKey() {
+        return this.packet == null ? null : this.packet.getClass();
+    }
+
     public static class Send extends PacketEvent {
 
+        private static final EventPool POOL = new EventPool(() -> {
+            return new PacketEvent.Send((Packet) null);
+        });
+
         public Send(Packet packet) {
             super(packet);
         }
+
+        public static PacketEvent.Send obtain(Packet packet) {
+            PacketEvent.Send event = (PacketEvent.Send) PacketEvent.Send.POOL.acquire();
+
+            ((PacketEvent) event).packet = packet;
+            return event;
+        }
     }
 
     public static class Receive extends PacketEvent {
 
+        private static final EventPool POOL = new EventPool(() -> {
+            return new PacketEvent.Receive((Packet) null);
+        });
+
         public Receive(Packet packet) {
             super(packet);
         }
+
+        public static PacketEvent.Receive obtain(Packet packet) {
+            PacketEvent.Receive event = (PacketEvent.Receive) PacketEvent.Receive.POOL.acquire();
+
+            ((PacketEvent) event).packet = packet;
+            return event;
+        }
     }
 }
@@ -1,9 +1,13 @@
 package live.rift.event.events;
 
 import live.rift.event.AlpineEvent;
+import live.rift.event.EventPool;
 
 public class PlayerMoveEvent extends AlpineEvent {
 
+    private static final EventPool POOL = new EventPool(() -> {
+        return new PlayerMoveEvent(0.0D, 0.0D, 0.0D, false);
+    });
     public double x;
     public double y;
     public double z;
@@ -16,6 +20,16 @@ public class PlayerMoveEvent extends AlpineEvent {
         this.onGround = onGround;
     }
 
+    public static PlayerMoveEvent obtain(double x, double y, double z, boolean onGround) {
+        PlayerMoveEvent event = (PlayerMoveEvent) PlayerMoveEvent.POOL.acquire();
+
+        event.x = x;
+        event.y = y;
+        event.z = z;
+        event.onGround = onGround;
+        return event;
+    }
+
     public double getX() {
         return this.x;
     }
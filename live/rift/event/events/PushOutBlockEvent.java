@@ -1,7 +1,13 @@
 package live.rift.event.events;
 
 import live.rift.event.AlpineEvent;
+import live.rift.event.EventPool;
 
 public class PushOutBlockEvent extends AlpineEvent {
 
+    private static final EventPool POOL = new EventPool(PushOutBlockEvent::new);
+
+    public static PushOutBlockEvent obtain() {
+        return (PushOutBlockEvent) PushOutBlockEvent.POOL.acquire();
+    }
 }
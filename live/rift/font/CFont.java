@@ -7,12 +7,17 @@ import java.awt.Graphics2D;
 import java.awt.RenderingHints;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import live.rift.util.StartupTracer;
 import net.minecraft.client.renderer.texture.DynamicTexture;
 import org.lwjgl.opengl.GL11;
 
 public class CFont {
 
-    private float imgSize = 512.0F;
+    private static final int ATLAS_SIZE = 512;
+    private static final Map PRERENDERED = new ConcurrentHashMap();
+    private float imgSize = (float) CFont.ATLAS_SIZE;
     protected CFont.CharData[] charData = new CFont.CharData[256];
     protected Font font;
     protected boolean antiAlias;
@@ -20,27 +25,89 @@ public class CFont {
     protected int fontHeight = -1;
     protected int charOffset = 0;
     protected DynamicTexture tex;
+    protected GlyphCache glyphs;
 
     public CFont(Font font, boolean antiAlias, boolean fractionalMetrics) {
         this.font = font;
         this.antiAlias = antiAlias;
         this.fractionalMetrics = fractionalMetrics;
         this.tex = this.setupTexture(font, antiAlias, fractionalMetrics, this.charData);
+        this.glyphs = new GlyphCache(font, antiAlias, fractionalMetrics);
     }
 
     protected DynamicTexture setupTexture(Font font, boolean antiAlias, boolean fractionalMetrics, CFont.CharData[] chars) {
-        BufferedImage img = this.generateFontImage(font, antiAlias, fractionalMetrics, chars);
+        CFont.Atlas atlas = this.generateFontAtlas(font, antiAlias, fractionalMetrics, chars);
+        StartupTracer.Span span = StartupTracer.begin("font upload " + CFont.atlasKey(font, antiAlias, fractionalMetrics));
 
         try {
-            return new DynamicTexture(img);
+            DynamicTexture texture = new DynamicTexture(atlas.size, atlas.size);
+
+            System.arraycopy(atlas.pixels, 0, texture.getTextureData(), 0, atlas.pixels.length);
+            texture.updateDynamicTexture();
+            return texture;
         } catch (Exception exception) {
             exception.printStackTrace();
             return null;
+        } finally {
+            span.end();
+        }
+    }
+
+    protected CFont.Atlas generateFontAtlas(Font font, boolean antiAlias, boolean fractionalMetrics, CFont.CharData[] chars) {
+        CFont.Atlas atlas = CFont.atlas(font, antiAlias, fractionalMetrics);
+
+        System.arraycopy(atlas.chars, 0, chars, 0, chars.length);
+        if (atlas.fontHeight > this.fontHeight) {
+            this.fontHeight = atlas.fontHeight;
+        }
+
+        return atlas;
+    }
+
+    public static void prerender(Font font, boolean antiAlias, boolean fractionalMetrics) {
+        String key = CFont.atlasKey(font, antiAlias, fractionalMetrics);
+
+        if (!CFont.PRERENDERED.containsKey(key)) {
+            CFont.PRERENDERED.put(key, CFont.atlas(font, antiAlias, fractionalMetrics));
         }
+
     }
 
-    protected BufferedImage generateFontImage(Font font, boolean antiAlias, boolean fractionalMetrics, CFont.CharData[] chars) {
-        int imgSize = (int) this.imgSize;
+    private static CFont.Atlas atlas(Font font, boolean antiAlias, boolean fractionalMetrics) {
+        String key = CFont.atlasKey(font, antiAlias, fractionalMetrics);
+        CFont.Atlas atlas = (CFont.Atlas) CFont.PRERENDERED.get(key);
+
+        if (atlas == null) {
+            atlas = FontCache.load(key, CFont.ATLAS_SIZE);
+            if (atlas == null) {
+                atlas = CFont.rasterize(font, antiAlias, fractionalMetrics);
+                FontCache.save(key, atlas);
+            }
+        }
+
+        return atlas;
+    }
+
+    public static void releasePrerendered() {
+        CFont.PRERENDERED.clear();
+    }
+
+    private static String atlasKey(Font font, boolean antiAlias, boolean fractionalMetrics) {
+        return font.getName() + ":" + font.getStyle() + ":" + font.getSize2D() + ":" + antiAlias + ":" + fractionalMetrics;
+    }
+
+    protected static CFont.Atlas rasterize(Font font, boolean antiAlias, boolean fractionalMetrics) {
+        StartupTracer.Span span = StartupTracer.begin("font atlas " + CFont.atlasKey(font, antiAlias, fractionalMetrics));
+
+        try {
+            return CFont.rasterize0(font, antiAlias, fractionalMetrics);
+        } finally {
+            span.end();
+        }
+    }
+
+    private static CFont.Atlas rasterize0(Font font, boolean antiAlias, boolean fractionalMetrics) {
+        int imgSize = CFont.ATLAS_SIZE;
         BufferedImage bufferedImage = new BufferedImage(imgSize, imgSize, 2);
         Graphics2D g = (Graphics2D) bufferedImage.getGraphics();
 
@@ -52,6 +119,8 @@ public class CFont {
         g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, antiAlias ? RenderingHints.VALUE_TEXT_ANTIALIAS_ON : RenderingHints.VALUE_TEXT_ANTIALIAS_OFF);
         g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, antiAlias ? RenderingHints.VALUE_ANTIALIAS_ON : RenderingHints.VALUE_ANTIALIAS_OFF);
         FontMetrics fontMetrics = g.getFontMetrics();
+        CFont.CharData[] chars = new CFont.CharData[256];
+        int fontHeight = -1;
         int charHeight = 0;
         int positionX = 0;
         int positionY = 1;
@@ -75,8 +144,8 @@ public class CFont {
 
             charData.storedX = positionX;
             charData.storedY = positionY;
-            if (charData.height > this.fontHeight) {
-                this.fontHeight = charData.height;
+            if (charData.height > fontHeight) {
+                fontHeight = charData.height;
             }
 
             chars[i] = charData;
@@ -84,7 +153,8 @@ public class CFont {
             positionX += charData.width;
         }
 
-        return bufferedImage;
+        g.dispose();
+        return new CFont.Atlas(imgSize, bufferedImage.getRGB(0, 0, imgSize, imgSize, (int[]) null, 0, imgSize), chars, fontHeight);
     }
 
     public void drawChar(CFont.CharData[] chars, char c, float x, float y) throws ArrayIndexOutOfBoundsException {
@@ -132,8 +202,10 @@ public class CFont {
         for (int j = 0; j < i; ++j) {
             char c = achar[j];
 
-            if (c < this.charData.length && c >= 0) {
+            if (c < this.charData.length) {
                 width += this.charData[c].width - 8 + this.charOffset;
+            } else {
+                width += this.glyphs.metrics(c).width - 8 + this.charOffset;
             }
         }
 
@@ -148,6 +220,7 @@ public class CFont {
         if (this.antiAlias != antiAlias) {
             this.antiAlias = antiAlias;
             this.tex = this.setupTexture(this.font, antiAlias, this.fractionalMetrics, this.charData);
+            this.resetGlyphs();
         }
 
     }
@@ -160,10 +233,20 @@ public class CFont {
         if (this.fractionalMetrics != fractionalMetrics) {
             this.fractionalMetrics = fractionalMetrics;
             this.tex = this.setupTexture(this.font, this.antiAlias, fractionalMetrics, this.charData);
+            this.resetGlyphs();
         }
 
     }
 
+    protected float getAtlasSize() {
+        return this.imgSize;
+    }
+
+    protected void resetGlyphs() {
+        this.glyphs.delete();
+        this.glyphs = new GlyphCache(this.font, this.antiAlias, this.fractionalMetrics);
+    }
+
     public Font getFont() {
         return this.font;
     }
@@ -171,9 +254,25 @@ public class CFont {
     public void setFont(Font font) {
         this.font = font;
         this.tex = this.setupTexture(font, this.antiAlias, this.fractionalMetrics, this.charData);
+        this.resetGlyphs();
+    }
+
+    protected static class Atlas {
+
+        public final int size;
+        public final int[] pixels;
+        public final CFont.CharData[] chars;
+        public final int fontHeight;
+
+        public Atlas(int size, int[] pixels, CFont.CharData[] chars, int fontHeight) {
+            this.size = size;
+            this.pixels = pixels;
+            this.chars = chars;
+            this.fontHeight = fontHeight;
+        }
     }
 
-    protected class CharData {
+    protected static class CharData {
 
         public int width;
         public int height;
@@ -1,15 +1,22 @@
 package live.rift.font;
 
 import java.awt.Font;
+import java.lang.ref.SoftReference;
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import net.minecraft.client.renderer.GlStateManager;
 import net.minecraft.client.renderer.texture.DynamicTexture;
 import org.lwjgl.opengl.GL11;
 
 public class CFontRenderer extends CFont {
 
+    private static final int MAX_MESHES = 512;
+    private static final int MAX_WIDTHS = 2048;
+    private static final int MAX_LAYOUTS = 128;
     protected CFont.CharData[] boldChars = new CFont.CharData[256];
     protected CFont.CharData[] italicChars = new CFont.CharData[256];
     protected CFont.CharData[] boldItalicChars = new CFont.CharData[256];
@@ -18,6 +25,29 @@ public class CFontRenderer extends CFont {
     protected DynamicTexture texBold;
     protected DynamicTexture texItalic;
     protected DynamicTexture texItalicBold;
+    protected GlyphCache boldGlyphs;
+    protected GlyphCache italicGlyphs;
+    protected GlyphCache boldItalicGlyphs;
+    private final Map meshes = new LinkedHashMap(64, 0.75F, true) {
+        protected boolean removeEldestEntry(Entry eldest) {
+            return this.size() > CFontRenderer.MAX_MESHES;
+        }
+    };
+    private final Map candidates = new LinkedHashMap(64, 0.75F, true) {
+        protected boolean removeEldestEntry(Entry eldest) {
+            return this.size() > CFontRenderer.MAX_MESHES;
+        }
+    };
+    private final Map widths = new LinkedHashMap(256, 0.75F, true) {
+        protected boolean removeEldestEntry(Entry eldest) {
+            return this.size() > CFontRenderer.MAX_WIDTHS;
+        }
+    };
+    private final Map layouts = new LinkedHashMap(64, 0.75F, true) {
+        protected boolean removeEldestEntry(Entry eldest) {
+            return this.size() > CFontRenderer.MAX_LAYOUTS;
+        }
+    };
 
     public CFontRenderer(Font font, boolean antiAlias, boolean fractionalMetrics) {
         super(font, antiAlias, fractionalMetrics);
@@ -25,6 +55,13 @@ public class CFontRenderer extends CFont {
         this.setupBoldItalicIDs();
     }
 
+    public static void prerender(Font font, boolean antiAlias, boolean fractionalMetrics) {
+        CFont.prerender(font, antiAlias, fractionalMetrics);
+        CFont.prerender(font.deriveFont(1), antiAlias, fractionalMetrics);
+        CFont.prerender(font.deriveFont(2), antiAlias, fractionalMetrics);
+        CFont.prerender(font.deriveFont(3), antiAlias, fractionalMetrics);
+    }
+
     public float drawStringWithShadow(String text, double x, double y, int color) {
         float shadowWidth = this.drawString(text, x + 1.0D, y + 1.0D, color, true);
 
@@ -61,167 +98,229 @@ public class CFontRenderer extends CFont {
                 color = (color & 16579836) >> 2 | color & -16777216;
             }
 
-            CFont.CharData[] currentData = this.charData;
             float alpha = (float) (color >> 24 & 255) / 255.0F;
-            boolean randomCase = false;
-            boolean bold = false;
-            boolean italic = false;
-            boolean strikethrough = false;
-            boolean underline = false;
-            boolean render = true;
 
             x *= 2.0D;
             y *= 2.0D;
-            if (render) {
-                GL11.glPushMatrix();
-                GlStateManager.scale(0.5D, 0.5D, 0.5D);
-                GlStateManager.enableBlend();
-                GlStateManager.blendFunc(770, 771);
-                GlStateManager.color((float) (color >> 16 & 255) / 255.0F, (float) (color >> 8 & 255) / 255.0F, (float) (color & 255) / 255.0F, alpha);
-                int size = text.length();
-
-                GlStateManager.enableTexture2D();
-                GlStateManager.bindTexture(this.tex.getGlTextureId());
-                GL11.glBindTexture(3553, this.tex.getGlTextureId());
-
-                for (int i = 0; i < size; ++i) {
-                    char character = text.charAt(i);
-
-                    if (character == 167 && i < size) {
-                        int colorIndex = 21;
-
-                        try {
-                            colorIndex = "0123456789abcdefklmnor".indexOf(text.charAt(i + 1));
-                        } catch (Exception exception) {
-                            ;
-                        }
-
-                        if (colorIndex < 16) {
-                            bold = false;
-                            italic = false;
-                            randomCase = false;
-                            underline = false;
-                            strikethrough = false;
-                            GlStateManager.bindTexture(this.tex.getGlTextureId());
-                            currentData = this.charData;
-                            if (colorIndex < 0 || colorIndex > 15) {
-                                colorIndex = 15;
-                            }
-
-                            if (shadow) {
-                                colorIndex += 16;
-                            }
-
-                            int colorcode = this.colorCode[colorIndex];
-
-                            GlStateManager.color((float) (colorcode >> 16 & 255) / 255.0F, (float) (colorcode >> 8 & 255) / 255.0F, (float) (colorcode & 255) / 255.0F, alpha);
-                        } else if (colorIndex == 16) {
-                            randomCase = true;
-                        } else if (colorIndex == 17) {
-                            bold = true;
-                            if (italic) {
-                                GlStateManager.bindTexture(this.texItalicBold.getGlTextureId());
-                                currentData = this.boldItalicChars;
-                            } else {
-                                GlStateManager.bindTexture(this.texBold.getGlTextureId());
-                                currentData = this.boldChars;
-                            }
-                        } else if (colorIndex == 18) {
-                            strikethrough = true;
-                        } else if (colorIndex == 19) {
-                            underline = true;
-                        } else if (colorIndex == 20) {
-                            italic = true;
-                            if (bold) {
-                                GlStateManager.bindTexture(this.texItalicBold.getGlTextureId());
-                                currentData = this.boldItalicChars;
-                            } else {
-                                GlStateManager.bindTexture(this.texItalic.getGlTextureId());
-                                currentData = this.italicChars;
-                            }
-                        } else if (colorIndex == 21) {
-                            bold = false;
-                            italic = false;
-                            randomCase = false;
-                            underline = false;
-                            strikethrough = false;
-                            GlStateManager.color((float) (color >> 16 & 255) / 255.0F, (float) (color >> 8 & 255) / 255.0F, (float) (color & 255) / 255.0F, alpha);
-                            GlStateManager.bindTexture(this.tex.getGlTextureId());
-                            currentData = this.charData;
-                        }
-
-                        ++i;
-                    } else if (character < currentData.length && character >= 0) {
-                        GL11.glBegin(4);
-                        this.drawChar(currentData, character, (float) x, (float) y);
-                        GL11.glEnd();
-                        if (strikethrough) {
-                            this.drawLine(x, y + (double) (currentData[character].height / 2), x + (double) currentData[character].width - 8.0D, y + (double) (currentData[character].height / 2), 1.0F);
-                        }
-
-                        if (underline) {
-                            this.drawLine(x, y + (double) currentData[character].height - 2.0D, x + (double) currentData[character].width - 8.0D, y + (double) currentData[character].height - 2.0D, 1.0F);
-                        }
-
-                        x += (double) (currentData[character].width - 8 + this.charOffset);
+            StringMesh mesh = this.mesh(text, shadow);
+
+            GL11.glPushMatrix();
+            GlStateManager.scale(0.5D, 0.5D, 0.5D);
+            GlStateManager.translate(x, y, 0.0D);
+            GlStateManager.enableBlend();
+            GlStateManager.blendFunc(770, 771);
+            GlStateManager.enableTexture2D();
+            mesh.draw(color, alpha);
+            GL11.glHint(3155, 4352);
+            GL11.glPopMatrix();
+            return (float) (x + mesh.advance) / 2.0F;
+        }
+    }
+
+    private StringMesh mesh(String text, boolean shadow) {
+        String key = shadow ? "\u0001" + text : text;
+        StringMesh mesh = (StringMesh) this.meshes.get(key);
+
+        if (mesh != null && mesh.isValid()) {
+            return mesh;
+        } else {
+            mesh = this.build(text, shadow);
+            if (mesh.isValid()) {
+                if (this.candidates.remove(key) != null || this.meshes.containsKey(key)) {
+                    mesh.retain();
+                    this.meshes.put(key, mesh);
+                } else {
+                    this.candidates.put(key, Boolean.TRUE);
+                }
+            }
+
+            return mesh;
+        }
+    }
+
+    private StringMesh build(String text, boolean shadow) {
+        StringMesh mesh = new StringMesh();
+        CFont.CharData[] currentData = this.charData;
+        GlyphCache currentGlyphs = this.glyphs;
+        DynamicTexture currentTexture = this.tex;
+        int color = -1;
+        boolean bold = false;
+        boolean italic = false;
+        boolean strikethrough = false;
+        boolean underline = false;
+        float atlasSize = this.getAtlasSize();
+        int size = text.length();
+        double x = 0.0D;
+
+        for (int i = 0; i < size; ++i) {
+            char character = text.charAt(i);
+
+            if (character == 167 && i < size) {
+                int colorIndex = 21;
+
+                try {
+                    colorIndex = "0123456789abcdefklmnor".indexOf(text.charAt(i + 1));
+                } catch (Exception exception) {
+                    ;
+                }
+
+                if (colorIndex < 16) {
+                    bold = false;
+                    italic = false;
+                    underline = false;
+                    strikethrough = false;
+                    currentTexture = this.tex;
+                    currentData = this.charData;
+                    currentGlyphs = this.glyphs;
+                    if (colorIndex < 0 || colorIndex > 15) {
+                        colorIndex = 15;
                     }
+
+                    if (shadow) {
+                        colorIndex += 16;
+                    }
+
+                    color = this.colorCode[colorIndex];
+                } else if (colorIndex == 17) {
+                    bold = true;
+                    if (italic) {
+                        currentTexture = this.texItalicBold;
+                        currentData = this.boldItalicChars;
+                        currentGlyphs = this.boldItalicGlyphs;
+                    } else {
+                        currentTexture = this.texBold;
+                        currentData = this.boldChars;
+                        currentGlyphs = this.boldGlyphs;
+                    }
+                } else if (colorIndex == 18) {
+                    strikethrough = true;
+                } else if (colorIndex == 19) {
+                    underline = true;
+                } else if (colorIndex == 20) {
+                    italic = true;
+                    if (bold) {
+                        currentTexture = this.texItalicBold;
+                        currentData = this.boldItalicChars;
+                        currentGlyphs = this.boldItalicGlyphs;
+                    } else {
+                        currentTexture = this.texItalic;
+                        currentData = this.italicChars;
+                        currentGlyphs = this.italicGlyphs;
+                    }
+                } else if (colorIndex == 21) {
+                    bold = false;
+                    italic = false;
+                    underline = false;
+                    strikethrough = false;
+                    color = -1;
+                    currentTexture = this.tex;
+                    currentData = this.charData;
+                    currentGlyphs = this.glyphs;
                 }
 
-                GL11.glHint(3155, 4352);
-                GL11.glPopMatrix();
-            }
+                ++i;
+            } else {
+                CFont.CharData data;
+                int texture;
 
-            return (float) x / 2.0F;
+                if (character < currentData.length) {
+                    data = currentData[character];
+                    texture = currentTexture.getGlTextureId();
+                } else {
+                    GlyphCache.Glyph glyph = currentGlyphs.glyph(character);
+
+                    if (glyph == null) {
+                        continue;
+                    }
+
+                    data = glyph.data;
+                    texture = glyph.page.texture.getGlTextureId();
+                    mesh.page(glyph.page);
+                }
+
+                mesh.quad(texture, color, (float) x, 0.0F, data, atlasSize);
+                if (strikethrough) {
+                    mesh.line(color, (float) x, (float) (data.height / 2), (float) (x + (double) data.width - 8.0D), (float) (data.height / 2));
+                }
+
+                if (underline) {
+                    mesh.line(color, (float) x, (float) data.height - 2.0F, (float) (x + (double) data.width - 8.0D), (float) data.height - 2.0F);
+                }
+
+                x += (double) (data.width - 8 + this.charOffset);
+            }
         }
+
+        mesh.advance = x;
+        return mesh;
     }
 
     public int getStringWidth(String text) {
         if (text == null) {
             return 0;
         } else {
-            int width = 0;
-            CFont.CharData[] currentData = this.charData;
-            boolean bold = false;
-            boolean italic = false;
-            int size = text.length();
-
-            for (int i = 0; i < size; ++i) {
-                char character = text.charAt(i);
-
-                if (character == 167 && i < size) {
-                    int colorIndex = "0123456789abcdefklmnor".indexOf(character);
-
-                    if (colorIndex < 16) {
-                        bold = false;
-                        italic = false;
-                    } else if (colorIndex == 17) {
-                        bold = true;
-                        if (italic) {
-                            currentData = this.boldItalicChars;
-                        } else {
-                            currentData = this.boldChars;
-                        }
-                    } else if (colorIndex == 20) {
-                        italic = true;
-                        if (bold) {
-                            currentData = this.boldItalicChars;
-                        } else {
-                            currentData = this.italicChars;
-                        }
-                    } else if (colorIndex == 21) {
-                        bold = false;
-                        italic = false;
-                        currentData = this.charData;
-                    }
+            Integer cached = (Integer) this.widths.get(text);
 
-                    ++i;
-                } else if (character < currentData.length && character >= 0) {
-                    width += currentData[character].width - 8 + this.charOffset;
-                }
+            if (cached == null) {
+                cached = Integer.valueOf(this.measure(text));
+                this.widths.put(text, cached);
             }
 
-            return width / 2;
+            return cached.intValue();
+        }
+    }
+
+    private int measure(String text) {
+        int width = 0;
+        CFont.CharData[] currentData = this.charData;
+        GlyphCache currentGlyphs = this.glyphs;
+        boolean bold = false;
+        boolean italic = false;
+        int size = text.length();
+
+        for (int i = 0; i < size; ++i) {
+            char character = text.charAt(i);
+
+            if (character == 167 && i < size) {
+                int colorIndex = "0123456789abcdefklmnor".indexOf(character);
+
+                if (colorIndex < 16) {
+                    bold = false;
+                    italic = false;
+                } else if (colorIndex == 17) {
+                    bold = true;
+                    if (italic) {
+                        currentData = this.boldItalicChars;
+                        currentGlyphs = this.boldItalicGlyphs;
+                    } else {
+                        currentData = this.boldChars;
+                        currentGlyphs = this.boldGlyphs;
+                    }
+                } else if (colorIndex == 20) {
+                    italic = true;
+                    if (bold) {
+                        currentData = this.boldItalicChars;
+                        currentGlyphs = this.boldItalicGlyphs;
+                    } else {
+                        currentData = this.italicChars;
+                        currentGlyphs = this.italicGlyphs;
+                    }
+                } else if (colorIndex == 21) {
+                    bold = false;
+                    italic = false;
+                    currentData = this.charData;
+                    currentGlyphs = this.glyphs;
+                }
+
+                ++i;
+            } else if (character < currentData.length) {
+                width += currentData[character].width - 8 + this.charOffset;
+            } else {
+                width += currentGlyphs.metrics(character).width - 8 + this.charOffset;
+            }
         }
+
+        return width / 2;
     }
 
     public void setFont(Font font) {
@@ -240,25 +339,58 @@ public class CFontRenderer extends CFont {
     }
 
     private void setupBoldItalicIDs() {
+        this.meshes.clear();
+        this.candidates.clear();
+        this.widths.clear();
+        this.layouts.clear();
+        if (this.boldGlyphs != null) {
+            this.boldGlyphs.delete();
+            this.italicGlyphs.delete();
+            this.boldItalicGlyphs.delete();
+        }
+
+        this.boldGlyphs = new GlyphCache(this.font.deriveFont(1), this.antiAlias, this.fractionalMetrics);
+        this.italicGlyphs = new GlyphCache(this.font.deriveFont(2), this.antiAlias, this.fractionalMetrics);
+        this.boldItalicGlyphs = new GlyphCache(this.font.deriveFont(3), this.antiAlias, this.fractionalMetrics);
         this.texBold = this.setupTexture(this.font.deriveFont(1), this.antiAlias, this.fractionalMetrics, this.boldChars);
         this.texItalic = this.setupTexture(this.font.deriveFont(2), this.antiAlias, this.fractionalMetrics, this.italicChars);
         this.texItalicBold = this.setupTexture(this.font.deriveFont(3), this.antiAlias, this.fractionalMetrics, this.boldItalicChars);
     }
 
-    private void drawLine(double x, double y, double x1, double y1, float width) {
-        GL11.glDisable(3553);
-        GL11.glLineWidth(width);
-        GL11.glBegin(1);
-        GL11.glVertex2d(x, y);
-        GL11.glVertex2d(x1, y1);
-        GL11.glEnd();
-        GL11.glEnable(3553);
+    public List wrapWords(String text, double width) {
+        String key = "w" + width + ":" + text;
+        List cached = this.layout(key);
+
+        if (cached == null) {
+            cached = Collections.unmodifiableList(this.wrap(text, width));
+            this.layouts.put(key, new SoftReference(cached));
+        }
+
+        return cached;
     }
 
-    public List wrapWords(String text, double width) {
+    public List formatString(String string, double width) {
+        String key = "f" + width + ":" + string;
+        List cached = this.layout(key);
+
+        if (cached == null) {
+            cached = Collections.unmodifiableList(this.split(string, width));
+            this.layouts.put(key, new SoftReference(cached));
+        }
+
+        return cached;
+    }
+
+    private List layout(String key) {
+        SoftReference reference = (SoftReference) this.layouts.get(key);
+
+        return reference == null ? null : (List) reference.get();
+    }
+
+    private List wrap(String text, double width) {
         ArrayList finalWords = new ArrayList();
 
-        if ((double) this.getStringWidth(text) > width) {
+        if ((double) this.measure(text) > width) {
             String[] words = text.split(" ");
             String currentWord = "";
             char lastColorCode = '\uffff';
@@ -267,16 +399,17 @@ public class CFontRenderer extends CFont {
 
             for (int i = 0; i < s; ++i) {
                 String word = astring[i];
+                char[] achar = word.toCharArray();
 
-                for (int i = 0; i < word.toCharArray().length; ++i) {
-                    char c = word.toCharArray()[i];
+                for (int j = 0; j < achar.length; ++j) {
+                    char c = achar[j];
 
-                    if (c == 167 && i < word.toCharArray().length - 1) {
-                        lastColorCode = word.toCharArray()[i + 1];
+                    if (c == 167 && j < achar.length - 1) {
+                        lastColorCode = achar[j + 1];
                     }
                 }
 
-                if ((double) this.getStringWidth(currentWord + word + " ") < width) {
+                if ((double) this.measure(currentWord + word + " ") < width) {
                     currentWord = currentWord + word + " ";
                 } else {
                     finalWords.add(currentWord);
@@ -285,17 +418,11 @@ public class CFontRenderer extends CFont {
             }
 
             if (currentWord.length() > 0) {
-                if ((double) this.getStringWidth(currentWord) < width) {
+                if ((double) this.measure(currentWord) < width) {
                     finalWords.add("§" + lastColorCode + currentWord + " ");
                     currentWord = "";
                 } else {
-                    Iterator iterator = this.formatString(currentWord, width).iterator();
-
-                    while (iterator.hasNext()) {
-                        String s = (String) iterator.next();
-
-                        finalWords.add(s);
-                    }
+                    finalWords.addAll(this.split(currentWord, width));
                 }
             }
         } else {
@@ -305,7 +432,7 @@ public class CFontRenderer extends CFont {
         return finalWords;
     }
 
-    public List formatString(String string, double width) {
+    private List split(String string, double width) {
         ArrayList finalWords = new ArrayList();
         String currentWord = "";
         char lastColorCode = '\uffff';
@@ -318,7 +445,7 @@ public class CFontRenderer extends CFont {
                 lastColorCode = chars[i + 1];
             }
 
-            if ((double) this.getStringWidth(currentWord + c) < width) {
+            if ((double) this.measure(currentWord + c) < width) {
                 currentWord = currentWord + c;
             } else {
                 finalWords.add(currentWord);
@@ -0,0 +1,150 @@
+package live.rift.font;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import live.rift.util.StartupTracer;
+import net.minecraft.client.Minecraft;
+
+public class FontCache {
+
+    private static final int MAGIC = 1380339284;
+    private static final int VERSION = 2;
+
+    public static CFont.Atlas load(String key, int size) {
+        File file = FontCache.file(key);
+
+        if (!file.isFile()) {
+            return null;
+        } else {
+            StartupTracer.Span span = StartupTracer.begin("font cache load " + key);
+
+            try {
+                ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
+
+                if (buffer.getInt() == FontCache.MAGIC && buffer.getInt() == FontCache.VERSION && FontCache.readString(buffer).equals(key) && FontCache.readString(buffer).equals(FontCache.runtime()) && buffer.getInt() == size) {
+                    int fontHeight = buffer.getInt();
+                    boolean alphaOnly = buffer.get() != 0;
+                    CFont.CharData[] chars = new CFont.CharData[256];
+
+                    for (int i = 0; i < chars.length; ++i) {
+                        CFont.CharData charData = new CFont.CharData();
+
+                        charData.width = buffer.getInt();
+                        charData.height = buffer.getInt();
+                        charData.storedX = buffer.getInt();
+                        charData.storedY = buffer.getInt();
+                        chars[i] = charData;
+                    }
+
+                    int[] pixels = new int[size * size];
+
+                    if (alphaOnly) {
+                        for (int j = 0; j < pixels.length; ++j) {
+                            int alpha = buffer.get() & 255;
+
+                            pixels[j] = alpha == 0 ? 0 : alpha << 24 | 16777215;
+                        }
+                    } else {
+                        buffer.asIntBuffer().get(pixels);
+                    }
+
+                    return new CFont.Atlas(size, pixels, chars, fontHeight);
+                } else {
+                    return null;
+                }
+            } catch (IOException ioexception) {
+                System.out.println("[Rift] Cannot read font cache " + file.getName() + ": " + ioexception.getMessage());
+                return null;
+            } catch (BufferUnderflowException bufferunderflowexception) {
+                System.out.println("[Rift] Truncated font cache " + file.getName());
+                return null;
+            } finally {
+                span.end();
+            }
+        }
+    }
+
+    public static void save(String key, CFont.Atlas atlas) {
+        File file = FontCache.file(key);
+        File dir = file.getParentFile();
+
+        if (!dir.exists()) {
+            dir.mkdirs();
+        }
+
+        boolean alphaOnly = true;
+
+        for (int i = 0; i < atlas.pixels.length && alphaOnly; ++i) {
+            alphaOnly = atlas.pixels[i] == 0 || (atlas.pixels[i] & 16777215) == 16777215;
+        }
+
+        try {
+            File temp = File.createTempFile("atlas", ".tmp", dir);
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp), 65536));
+
+            try {
+                out.writeInt(FontCache.MAGIC);
+                out.writeInt(FontCache.VERSION);
+                FontCache.writeString(out, key);
+                FontCache.writeString(out, FontCache.runtime());
+                out.writeInt(atlas.size);
+                out.writeInt(atlas.fontHeight);
+                out.writeByte(alphaOnly ? 1 : 0);
+
+                for (int j = 0; j < atlas.chars.length; ++j) {
+                    CFont.CharData charData = atlas.chars[j];
+
+                    out.writeInt(charData.width);
+                    out.writeInt(charData.height);
+                    out.writeInt(charData.storedX);
+                    out.writeInt(charData.storedY);
+                }
+
+                for (int k = 0; k < atlas.pixels.length; ++k) {
+                    if (alphaOnly) {
+                        out.writeByte(atlas.pixels[k] >>> 24);
+                    } else {
+                        out.writeInt(atlas.pixels[k]);
+                    }
+                }
+            } finally {
+                out.close();
+            }
+
+            Files.move(temp.toPath(), file.toPath(), new StandardCopyOption[] { StandardCopyOption.REPLACE_EXISTING});
+        } catch (IOException ioexception) {
+            System.out.println("[Rift] Cannot write font cache " + file.getName() + ": " + ioexception.getMessage());
+        }
+
+    }
+
+    private static File file(String key) {
+        return new File(Minecraft.getMinecraft().gameDir.getAbsolutePath(), File.separator + "RiftMod" + File.separator + "cache" + File.separator + "fonts" + File.separator + key.replaceAll("[^A-Za-z0-9.-]", "_") + ".atlas");
+    }
+
+    private static String runtime() {
+        return System.getProperty("java.version") + "/" + System.getProperty("os.name");
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getShort() & 65535];
+
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeString(DataOutputStream out, String s) throws IOException {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+}
@@ -0,0 +1,259 @@
+package live.rift.font;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import net.minecraft.client.renderer.GlStateManager;
+import net.minecraft.client.renderer.texture.DynamicTexture;
+import org.lwjgl.BufferUtils;
+import org.lwjgl.opengl.GL11;
+
+public class GlyphCache {
+
+    public static final int PAGE_SIZE = 512;
+    private static final int MAX_PAGES = 4;
+    private static long clock;
+    private final Font font;
+    private final Font fallback;
+    private final boolean antiAlias;
+    private final boolean fractionalMetrics;
+    private final Map metrics = new HashMap();
+    private final Map glyphs = new HashMap();
+    private final List pages = new ArrayList();
+    private Graphics2D measure;
+    private IntBuffer upload;
+
+    public GlyphCache(Font font, boolean antiAlias, boolean fractionalMetrics) {
+        this.font = font;
+        this.fallback = new Font("Dialog", font.getStyle(), font.getSize());
+        this.antiAlias = antiAlias;
+        this.fractionalMetrics = fractionalMetrics;
+    }
+
+    public static void nextFrame() {
+        ++GlyphCache.clock;
+    }
+
+    public CFont.CharData metrics(char c) {
+        CFont.CharData data = (CFont.CharData) this.metrics.get(Character.valueOf(c));
+
+        if (data == null) {
+            if (this.measure == null) {
+                this.measure = this.setup((new BufferedImage(1, 1, 2)).createGraphics());
+            }
+
+            Font font = this.fontFor(c);
+
+            this.measure.setFont(font);
+            Rectangle2D dimensions = this.measure.getFontMetrics().getStringBounds(String.valueOf(c), this.measure);
+
+            data = new CFont.CharData();
+            data.width = dimensions.getBounds().width + 8;
+            data.height = dimensions.getBounds().height;
+            this.metrics.put(Character.valueOf(c), data);
+        }
+
+        return data;
+    }
+
+    public boolean contains(char c) {
+        return this.glyphs.containsKey(Character.valueOf(c));
+    }
+
+    public GlyphCache.Glyph glyph(char c) {
+        GlyphCache.Glyph glyph = (GlyphCache.Glyph) this.glyphs.get(Character.valueOf(c));
+
+        if (glyph == null) {
+            glyph = this.rasterize(c);
+            if (glyph == null) {
+                return null;
+            }
+
+            this.glyphs.put(Character.valueOf(c), glyph);
+        }
+
+        glyph.page.lastUsed = GlyphCache.clock;
+        return glyph;
+    }
+
+    public void delete() {
+        Iterator iterator = this.pages.iterator();
+
+        while (iterator.hasNext()) {
+            ((GlyphCache.Page) iterator.next()).texture.deleteGlTexture();
+        }
+
+        this.pages.clear();
+        this.glyphs.clear();
+        if (this.measure != null) {
+            this.measure.dispose();
+            this.measure = null;
+        }
+
+    }
+
+    private Font fontFor(char c) {
+        return this.font.canDisplay(c) ? this.font : this.fallback;
+    }
+
+    private GlyphCache.Glyph rasterize(char c) {
+        CFont.CharData metrics = this.metrics(c);
+        int width = metrics.width;
+        int height = Math.max(1, metrics.height);
+
+        if (width <= 0 || width > GlyphCache.PAGE_SIZE || height > GlyphCache.PAGE_SIZE) {
+            return null;
+        } else {
+            GlyphCache.Page page = this.pageFor(width, height);
+
+            if (page == null) {
+                return null;
+            } else {
+                if (page.cursorX + width > GlyphCache.PAGE_SIZE) {
+                    page.cursorX = 0;
+                    page.cursorY += page.rowHeight;
+                    page.rowHeight = 0;
+                }
+
+                BufferedImage image = new BufferedImage(width, height, 2);
+                Graphics2D g = this.setup(image.createGraphics());
+                Font font = this.fontFor(c);
+
+                g.setFont(font);
+                g.setColor(new Color(255, 255, 255, 0));
+                g.fillRect(0, 0, width, height);
+                g.setColor(Color.WHITE);
+                g.drawString(String.valueOf(c), 2, g.getFontMetrics().getAscent());
+                g.dispose();
+                int[] pixels = image.getRGB(0, 0, width, height, (int[]) null, 0, width);
+
+                if (this.upload == null || this.upload.capacity() < pixels.length) {
+                    this.upload = BufferUtils.createIntBuffer(Math.max(pixels.length, 4096));
+                }
+
+                this.upload.clear();
+                this.upload.put(pixels);
+                this.upload.flip();
+                GlStateManager.bindTexture(page.texture.getGlTextureId());
+                GL11.glTexSubImage2D(3553, 0, page.cursorX, page.cursorY, width, height, 32993, 33639, this.upload);
+                CFont.CharData data = new CFont.CharData();
+
+                data.width = width;
+                data.height = metrics.height;
+                data.storedX = page.cursorX;
+                data.storedY = page.cursorY;
+                page.cursorX += width;
+                page.rowHeight = Math.max(page.rowHeight, height);
+                GlyphCache.Glyph glyph = new GlyphCache.Glyph(page, data);
+
+                page.glyphs.add(Character.valueOf(c));
+                return glyph;
+            }
+        }
+    }
+
+    private GlyphCache.Page pageFor(int width, int height) {
+        Iterator iterator = this.pages.iterator();
+
+        while (iterator.hasNext()) {
+            GlyphCache.Page page = (GlyphCache.Page) iterator.next();
+
+            if (page.fits(width, height)) {
+                return page;
+            }
+        }
+
+        if (this.pages.size() < GlyphCache.MAX_PAGES) {
+            DynamicTexture texture = new DynamicTexture(GlyphCache.PAGE_SIZE, GlyphCache.PAGE_SIZE);
+
+            texture.updateDynamicTexture();
+            GlyphCache.Page page1 = new GlyphCache.Page(texture);
+
+            this.pages.add(page1);
+            return page1;
+        } else {
+            GlyphCache.Page oldest = null;
+
+            iterator = this.pages.iterator();
+
+            while (iterator.hasNext()) {
+                GlyphCache.Page page2 = (GlyphCache.Page) iterator.next();
+
+                if (page2.lastUsed != GlyphCache.clock && (oldest == null || page2.lastUsed < oldest.lastUsed)) {
+                    oldest = page2;
+                }
+            }
+
+            if (oldest == null) {
+                return null;
+            } else {
+                Iterator chars = oldest.glyphs.iterator();
+
+                while (chars.hasNext()) {
+                    this.glyphs.remove(chars.next());
+                }
+
+                oldest.glyphs.clear();
+                ++oldest.generation;
+                oldest.cursorX = 0;
+                oldest.cursorY = 0;
+                oldest.rowHeight = 0;
+                return oldest;
+            }
+        }
+    }
+
+    private Graphics2D setup(Graphics2D g) {
+        g.setRenderingHint(RenderingHints.KEY_FRACTIONALMETRICS, this.fractionalMetrics ? RenderingHints.VALUE_FRACTIONALMETRICS_ON : RenderingHints.VALUE_FRACTIONALMETRICS_OFF);
+        g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, this.antiAlias ? RenderingHints.VALUE_TEXT_ANTIALIAS_ON : RenderingHints.VALUE_TEXT_ANTIALIAS_OFF);
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, this.antiAlias ? RenderingHints.VALUE_ANTIALIAS_ON : RenderingHints.VALUE_ANTIALIAS_OFF);
+        return g;
+    }
+
+    public static class Glyph {
+
+        public final GlyphCache.Page page;
+        public final CFont.CharData data;
+
+        private Glyph(GlyphCache.Page page, CFont.CharData data) {
+            this.page = page;
+            this.data = data;
+        }
+    }
+
+    public static class Page {
+
+        public final DynamicTexture texture;
+        private final List glyphs = new ArrayList();
+        private int cursorX;
+        private int cursorY;
+        private int rowHeight;
+        private long lastUsed;
+        private int generation;
+
+        private Page(DynamicTexture texture) {
+            this.texture = texture;
+        }
+
+        public int getGeneration() {
+            return this.generation;
+        }
+
+        public void touch() {
+            this.lastUsed = GlyphCache.clock;
+        }
+
+        private boolean fits(int width, int height) {
+            return this.cursorX + width <= GlyphCache.PAGE_SIZE ? this.cursorY + Math.max(this.rowHeight, height) <= GlyphCache.PAGE_SIZE : this.cursorY + this.rowHeight + height <= GlyphCache.PAGE_SIZE;
+        }
+    }
+}
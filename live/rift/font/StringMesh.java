@@ -0,0 +1,163 @@
+package live.rift.font;
+
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import net.minecraft.client.renderer.GlStateManager;
+import org.lwjgl.BufferUtils;
+import org.lwjgl.opengl.GL11;
+
+public class StringMesh {
+
+    private static FloatBuffer scratch;
+    private static FloatBuffer scratchTexCoords;
+    private float[] data = new float[96];
+    private int floats;
+    private final List runs = new ArrayList();
+    private final List pages = new ArrayList();
+    private final List generations = new ArrayList();
+    private StringMesh.Run run;
+    private FloatBuffer buffer;
+    private FloatBuffer texCoords;
+    public double advance;
+
+    public void quad(int texture, int color, float x, float y, CFont.CharData c, float atlasSize) {
+        float u = (float) c.storedX / atlasSize;
+        float v = (float) c.storedY / atlasSize;
+        float u1 = u + (float) c.width / atlasSize;
+        float v1 = v + (float) c.height / atlasSize;
+        float x1 = x + (float) c.width;
+        float y1 = y + (float) c.height;
+
+        this.select(texture, color, false);
+        this.vertex(x1, y, u1, v);
+        this.vertex(x, y, u, v);
+        this.vertex(x, y1, u, v1);
+        this.vertex(x, y1, u, v1);
+        this.vertex(x1, y1, u1, v1);
+        this.vertex(x1, y, u1, v);
+    }
+
+    public void line(int color, float x, float y, float x1, float y1) {
+        this.select(0, color, true);
+        this.vertex(x, y, 0.0F, 0.0F);
+        this.vertex(x1, y1, 0.0F, 0.0F);
+    }
+
+    public void page(GlyphCache.Page page) {
+        if (!this.pages.contains(page)) {
+            this.pages.add(page);
+            this.generations.add(Integer.valueOf(page.getGeneration()));
+        }
+
+    }
+
+    public boolean isValid() {
+        for (int i = 0; i < this.pages.size(); ++i) {
+            if (((GlyphCache.Page) this.pages.get(i)).getGeneration() != ((Integer) this.generations.get(i)).intValue()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    public void retain() {
+        this.buffer = BufferUtils.createFloatBuffer(Math.max(this.floats, 4));
+        this.buffer.put(this.data, 0, this.floats);
+        this.buffer.flip();
+        this.buffer.position(2);
+        this.texCoords = this.buffer.slice();
+        this.buffer.position(0);
+        this.data = null;
+    }
+
+    public void draw(int color, float alpha) {
+        FloatBuffer vertices = this.buffer;
+        FloatBuffer texCoords = this.texCoords;
+
+        if (vertices == null) {
+            if (StringMesh.scratch == null || StringMesh.scratch.capacity() < this.floats) {
+                StringMesh.scratch = BufferUtils.createFloatBuffer(Math.max(this.floats, 4096));
+                StringMesh.scratch.position(2);
+                StringMesh.scratchTexCoords = StringMesh.scratch.slice();
+            }
+
+            vertices = StringMesh.scratch;
+            texCoords = StringMesh.scratchTexCoords;
+            vertices.clear();
+            vertices.put(this.data, 0, this.floats);
+            vertices.flip();
+        }
+
+        if (!this.runs.isEmpty()) {
+            vertices.position(0);
+            GL11.glVertexPointer(2, 16, vertices);
+            GL11.glTexCoordPointer(2, 16, texCoords);
+            GL11.glEnableClientState(32884);
+            GL11.glEnableClientState(32888);
+
+            for (int i = 0; i < this.pages.size(); ++i) {
+                ((GlyphCache.Page) this.pages.get(i)).touch();
+            }
+
+            for (int j = 0; j < this.runs.size(); ++j) {
+                StringMesh.Run run = (StringMesh.Run) this.runs.get(j);
+                int rgb = run.color == -1 ? color : run.color;
+
+                GlStateManager.color((float) (rgb >> 16 & 255) / 255.0F, (float) (rgb >> 8 & 255) / 255.0F, (float) (rgb & 255) / 255.0F, alpha);
+                if (run.lines) {
+                    GL11.glDisable(3553);
+                    GL11.glLineWidth(1.0F);
+                    GL11.glDrawArrays(1, run.first, run.count);
+                    GL11.glEnable(3553);
+                } else {
+                    GlStateManager.bindTexture(run.texture);
+                    GL11.glDrawArrays(4, run.first, run.count);
+                }
+            }
+
+            GL11.glDisableClientState(32884);
+            GL11.glDisableClientState(32888);
+        }
+    }
+
+    private void select(int texture, int color, boolean lines) {
+        if (this.run == null || this.run.texture != texture || this.run.color != color || this.run.lines != lines) {
+            this.run = new StringMesh.Run(texture, color, lines, this.floats / 4);
+            this.runs.add(this.run);
+        }
+
+    }
+
+    private void vertex(float x, float y, float u, float v) {
+        if (this.floats + 4 > this.data.length) {
+            float[] grown = new float[this.data.length * 2];
+
+            System.arraycopy(this.data, 0, grown, 0, this.floats);
+            this.data = grown;
+        }
+
+        this.data[this.floats++] = x;
+        this.data[this.floats++] = y;
+        this.data[this.floats++] = u;
+        this.data[this.floats++] = v;
+        ++this.run.count;
+    }
+
+    private static class Run {
+
+        private final int texture;
+        private final int color;
+        private final boolean lines;
+        private final int first;
+        private int count;
+
+        private Run(int texture, int color, boolean lines, int first) {
+            this.texture = texture;
+            this.color = color;
+            this.lines = lines;
+            this.first = first;
+        }
+    }
+}
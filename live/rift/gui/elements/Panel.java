@@ -9,6 +9,7 @@ import live.rift.gui.setting.eSetting;
 import live.rift.gui.util.GuiUtil;
 import live.rift.module.Category;
 import live.rift.module.Module;
+import live.rift.module.modules.hud.GUI;
 import live.rift.util.UIUtil;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.GlStateManager;
@@ -37,13 +38,12 @@ public class Panel {
     }
 
     public void drawPanel(int mouseX, int mouseY) {
-        Module guiModule = RiftMod.fevents.moduleManager.getModule("Gui");
         int guiColor;
 
-        if (RiftMod.setmgr.getSettingByMod("Rainbow", RiftMod.fevents.moduleManager.getModule("Gui")).getValBoolean()) {
+        if (GUI.INSTANCE.rainbow.getValBoolean()) {
             guiColor = Color.getHSBColor((float) (System.currentTimeMillis() % 7500L) / 7500.0F, 0.8F, 0.8F).getRGB();
         } else {
-            guiColor = (new Color((int) guiModule.getSetting("Red").getValDouble(), (int) guiModule.getSetting("Green").getValDouble(), (int) guiModule.getSetting("Blue").getValDouble())).getRGB();
+            guiColor = GUI.INSTANCE.getRGB();
         }
 
         this.categoryDraw(guiColor);
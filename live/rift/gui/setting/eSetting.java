@@ -7,7 +7,7 @@ import java.math.RoundingMode;
 import live.rift.RiftMod;
 import live.rift.gui.elements.Button;
 import live.rift.gui.util.GuiUtil;
-import live.rift.module.Module;
+import live.rift.module.modules.hud.GUI;
 import live.rift.setting.Setting;
 import org.lwjgl.input.Keyboard;
 
@@ -36,13 +36,12 @@ public class eSetting {
     }
 
     public void drawSetting(int mouseX, int mouseY) {
-        Module guiModule = RiftMod.fevents.moduleManager.getModule("Gui");
         int guiColor;
 
-        if (RiftMod.setmgr.getSettingByMod("Rainbow", RiftMod.fevents.moduleManager.getModule("Gui")).getValBoolean()) {
+        if (GUI.INSTANCE.rainbow.getValBoolean()) {
             guiColor = Color.getHSBColor((float) (System.currentTimeMillis() % 7500L) / 7500.0F, 0.8F, 0.8F).getRGB();
         } else {
-            guiColor = (new Color((int) guiModule.getSetting("Red").getValDouble(), (int) guiModule.getSetting("Green").getValDouble(), (int) guiModule.getSetting("Blue").getValDouble())).getRGB();
+            guiColor = GUI.INSTANCE.getRGB();
         }
 
         int hoverColor = (new Color(137, 137, 137, 200)).getRGB();
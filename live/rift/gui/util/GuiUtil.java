@@ -1,8 +1,8 @@
 package live.rift.gui.util;
 
 import java.awt.Font;
-import live.rift.RiftMod;
 import live.rift.font.CFontRenderer;
+import live.rift.module.modules.hud.Hud;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.FontRenderer;
 import net.minecraft.client.renderer.BufferBuilder;
@@ -26,11 +26,11 @@ public class GuiUtil {
     }
 
     public static int getStringWidth(String in) {
-        return RiftMod.fevents.moduleManager.getModule("Hud").getSetting("CustomFont").getValBoolean() ? GuiUtil.cfontRenderer.getStringWidth(in) : GuiUtil.fontRenderer.getStringWidth(in);
+        return Hud.INSTANCE.cfont.getValBoolean() ? GuiUtil.cfontRenderer.getStringWidth(in) : GuiUtil.fontRenderer.getStringWidth(in);
     }
 
     public static void drawCenteredString(String text, int x, int y, int color) {
-        if (RiftMod.fevents.moduleManager.getModule("Hud").getSetting("CustomFont").getValBoolean()) {
+        if (Hud.INSTANCE.cfont.getValBoolean()) {
             GuiUtil.cfontRenderer.drawStringWithShadow(text, (double) ((float) (x - GuiUtil.fontRenderer.getStringWidth(text) / 2)), (double) ((float) y), color);
         } else {
             GuiUtil.fontRenderer.drawStringWithShadow(text, (float) (x - GuiUtil.fontRenderer.getStringWidth(text) / 2), (float) y, color);
@@ -101,7 +101,7 @@ public class GuiUtil {
     }
 
     public static void drawString(String text, int x, int y, int color) {
-        if (RiftMod.fevents.moduleManager.getModule("Hud").getSetting("CustomFont").getValBoolean()) {
+        if (Hud.INSTANCE.cfont.getValBoolean()) {
             GuiUtil.cfontRenderer.drawStringWithShadow(text, (double) x, (double) y, color);
         } else {
             GuiUtil.fontRenderer.drawStringWithShadow(text, (float) x, (float) y, color);
@@ -110,7 +110,7 @@ public class GuiUtil {
     }
 
     public static void drawStringNoShadow(String text, int x, int y, int color) {
-        if (RiftMod.fevents.moduleManager.getModule("Hud").getSetting("CustomFont").getValBoolean()) {
+        if (Hud.INSTANCE.cfont.getValBoolean()) {
             GuiUtil.cfontRenderer.drawString(text, (float) x, (float) y, color);
         } else {
             GuiUtil.fontRenderer.drawString(text, x, y, color);
@@ -119,11 +119,11 @@ public class GuiUtil {
     }
 
     public static int getHeight() {
-        return RiftMod.fevents.moduleManager.getModule("Hud").getSetting("CustomFont").getValBoolean() ? GuiUtil.cfontRenderer.getHeight() : GuiUtil.fontRenderer.FONT_HEIGHT;
+        return Hud.INSTANCE.cfont.getValBoolean() ? GuiUtil.cfontRenderer.getHeight() : GuiUtil.fontRenderer.FONT_HEIGHT;
     }
 
     public static void drawString(String text, float x, float y, int color) {
-        if (RiftMod.fevents.moduleManager.getModule("Hud").getSetting("CustomFont").getValBoolean()) {
+        if (Hud.INSTANCE.cfont.getValBoolean()) {
             GuiUtil.cfontRenderer.drawStringWithShadow(text, (double) x, (double) y, color);
         } else {
             GuiUtil.fontRenderer.drawStringWithShadow(text, x, y, color);
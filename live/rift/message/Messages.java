@@ -1,5 +1,6 @@
 package live.rift.message;
 
+import live.rift.util.Wrapper;
 import net.minecraft.client.Minecraft;
 
 public class Messages {
@@ -26,7 +27,11 @@ public class Messages {
     }
 
     public static void sendRawChatMessage(String message) {
-        if (Minecraft.getMinecraft() != null && Minecraft.getMinecraft().player != null && Minecraft.getMinecraft().world != null) {
+        if (Minecraft.getMinecraft() != null && !Minecraft.getMinecraft().isCallingFromMinecraftThread()) {
+            Wrapper.runOnClientThread(() -> {
+                sendRawChatMessage(message);
+            });
+        } else if (Minecraft.getMinecraft() != null && Minecraft.getMinecraft().player != null && Minecraft.getMinecraft().world != null) {
             Minecraft.getMinecraft().player.sendMessage(new ChatMessage(message));
         }
 
@@ -1,6 +1,7 @@
 package live.rift.mixin;
 
 import java.util.Map;
+import live.rift.util.StartupTracer;
 import net.minecraftforge.fml.relauncher.IFMLLoadingPlugin;
 import org.spongepowered.asm.launch.MixinBootstrap;
 import org.spongepowered.asm.mixin.MixinEnvironment;
@@ -11,9 +12,16 @@ public class Loader implements IFMLLoadingPlugin {
     private static boolean isObfuscatedEnvironment = false;
 
     public Loader() {
+        StartupTracer.Span span = StartupTracer.begin("mixin bootstrap");
+
+        if (StartupTracer.TRACE_MIXINS && System.getProperty("mixin.debug.profiler") == null) {
+            System.setProperty("mixin.debug.profiler", "true");
+        }
+
         MixinBootstrap.init();
         Mixins.addConfiguration("mixins.rift.json");
         MixinEnvironment.getDefaultEnvironment().setObfuscationContext("name");
+        span.end();
     }
 
     public String[] getASMTransformerClass() {
@@ -1,6 +1,7 @@
 package live.rift.mixin.client;
 
 import live.rift.RiftMod;
+import live.rift.module.modules.movement.Velocity;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.MoverType;
 import org.spongepowered.asm.mixin.Mixin;
@@ -69,7 +70,7 @@ public abstract class MixinEntity {
             )
     )
     public void addVelocity(Entity entity, double x, double y, double z) {
-        if (!RiftMod.fevents.moduleManager.getModule("Velocity").isEnabled()) {
+        if (!RiftMod.fevents.moduleManager.getModule(Velocity.class).isEnabled()) {
             entity.motionX += x;
             entity.motionY += y;
             entity.motionZ += z;
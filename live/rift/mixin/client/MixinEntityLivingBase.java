@@ -25,12 +25,13 @@ public abstract class MixinEntityLivingBase extends MixinEntity {
         cancellable = true
     )
     public void isPotionActive(Potion potionIn, CallbackInfoReturnable callbackInfoReturnable) {
-        EventPlayerIsPotionActive l_Event = new EventPlayerIsPotionActive(potionIn);
+        EventPlayerIsPotionActive l_Event = EventPlayerIsPotionActive.obtain(potionIn);
 
         RiftMod.EVENT_BUS.post(l_Event);
         if (l_Event.isCancelled()) {
             callbackInfoReturnable.setReturnValue(Boolean.valueOf(false));
         }
 
+        l_Event.release();
     }
 }
@@ -21,7 +21,7 @@ public abstract class MixinEntityPlayer extends MixinEntityLivingBase {
         cancellable = true
     )
     public void travel(float strafe, float vertical, float forward, CallbackInfo info) {
-        EventPlayerTravel l_Event = new EventPlayerTravel();
+        EventPlayerTravel l_Event = EventPlayerTravel.obtain();
 
         RiftMod.EVENT_BUS.post(l_Event);
         if (l_Event.isCancelled()) {
@@ -29,5 +29,6 @@ public abstract class MixinEntityPlayer extends MixinEntityLivingBase {
             info.cancel();
         }
 
+        l_Event.release();
     }
 }
@@ -30,10 +30,22 @@ public abstract class MixinEntityPlayerSP extends MixinAbstractClientPlayer {
         at = {             @At("HEAD")}
     )
     private void onUpdateWalkingPlayerHead(CallbackInfo ci) {
-        this.eventUpdate = new EventMotionUpdate(AlpineEvent.Era.PRE, (EntityPlayerSP) this, this.mc.player.rotationYaw, this.mc.player.rotationPitch, this.mc.player.posX, this.mc.player.posY, this.mc.player.posZ, this.mc.player.onGround);
+        this.eventUpdate = EventMotionUpdate.obtain(AlpineEvent.Era.PRE, (EntityPlayerSP) this, this.mc.player.rotationYaw, this.mc.player.rotationPitch, this.mc.player.posX, this.mc.player.posY, this.mc.player.posZ, this.mc.player.onGround);
         RiftMod.EVENT_BUS.post(this.eventUpdate);
     }
 
+    @Inject(
+        method = { "onUpdateWalkingPlayer"},
+        at = {             @At("RETURN")}
+    )
+    private void onUpdateWalkingPlayerReturn(CallbackInfo ci) {
+        if (this.eventUpdate != null) {
+            this.eventUpdate.release();
+            this.eventUpdate = null;
+        }
+
+    }
+
     @Redirect(
         method = { "onUpdateWalkingPlayer"},
         at =             @At(
@@ -106,7 +118,7 @@ public abstract class MixinEntityPlayerSP extends MixinAbstractClientPlayer {
         cancellable = true
     )
     public void move(MoverType type, double x, double y, double z, CallbackInfo info) {
-        PlayerMoveEvent event = new PlayerMoveEvent(x, y, z, Minecraft.getMinecraft().player.onGround);
+        PlayerMoveEvent event = PlayerMoveEvent.obtain(x, y, z, Minecraft.getMinecraft().player.onGround);
 
         RiftMod.EVENT_BUS.post(event);
         if (event.isCancelled()) {
@@ -114,6 +126,7 @@ public abstract class MixinEntityPlayerSP extends MixinAbstractClientPlayer {
             info.cancel();
         }
 
+        event.release();
     }
 
     @Inject(
@@ -122,12 +135,13 @@ public abstract class MixinEntityPlayerSP extends MixinAbstractClientPlayer {
         cancellable = true
     )
     private void onPushOutOfBlocks(double x, double y, double z, CallbackInfoReturnable cir) {
-        PushOutBlockEvent eventPushOutOfBlocks = new PushOutBlockEvent();
+        PushOutBlockEvent eventPushOutOfBlocks = PushOutBlockEvent.obtain();
 
         RiftMod.EVENT_BUS.post(eventPushOutOfBlocks);
         if (eventPushOutOfBlocks.isCancelled()) {
             cir.setReturnValue(Boolean.valueOf(false));
         }
 
+        eventPushOutOfBlocks.release();
     }
 }
@@ -3,7 +3,8 @@ package live.rift.mixin.client;
 import java.awt.Color;
 import live.rift.RiftMod;
 import live.rift.gui.util.GuiUtil;
-import live.rift.module.Module;
+import live.rift.module.modules.hud.GUI;
+import live.rift.module.modules.render.ShulkerViewer;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.FontRenderer;
 import net.minecraft.client.gui.GuiScreen;
@@ -42,7 +43,7 @@ public class MixinGuiScreen {
         cancellable = true
     )
     public void renderToolTip(ItemStack stack, int x, int y, CallbackInfo info) {
-        if (RiftMod.fevents.moduleManager.getModule("ShulkerViewer").isEnabled() && stack.getItem() instanceof ItemShulkerBox) {
+        if (RiftMod.fevents.moduleManager.getModule(ShulkerViewer.class).isEnabled() && stack.getItem() instanceof ItemShulkerBox) {
             NBTTagCompound tagCompound = stack.getTagCompound();
 
             if (tagCompound != null && tagCompound.hasKey("BlockEntityTag", 10)) {
@@ -64,25 +65,24 @@ public class MixinGuiScreen {
                     byte height = 60;
 
                     this.itemRender.zLevel = 300.0F;
-                    Module m = RiftMod.fevents.moduleManager.getModule("ShulkerViewer");
-                    Module gui = RiftMod.fevents.moduleManager.getModule("Gui");
-                    int bgColor = (new Color(16, 16, 16, (int) m.getSetting("Opacity").getValDouble())).getRGB();
+                    ShulkerViewer m = (ShulkerViewer) RiftMod.fevents.moduleManager.getModule(ShulkerViewer.class);
+                    int bgColor = (new Color(16, 16, 16, (int) m.opacity.getValDouble())).getRGB();
 
                     this.drawRect((float) x1, (float) y1, (float) (x1 + width), (float) (y1 + height), bgColor);
                     int textColor;
 
-                    if (gui.getSetting("Rainbow").getValBoolean()) {
+                    if (GUI.INSTANCE.rainbow.getValBoolean()) {
                         textColor = Color.getHSBColor((float) (System.currentTimeMillis() % 7500L) / 7500.0F, 0.8F, 0.8F).getRGB();
                     } else {
-                        textColor = (new Color((int) gui.getSetting("Red").getValDouble(), (int) gui.getSetting("Green").getValDouble(), (int) gui.getSetting("Blue").getValDouble())).getRGB();
+                        textColor = GUI.INSTANCE.getRGB();
                     }
 
                     int outlineColor;
 
-                    if (gui.getSetting("Rainbow").getValBoolean()) {
+                    if (GUI.INSTANCE.rainbow.getValBoolean()) {
                         outlineColor = Color.getHSBColor((float) (System.currentTimeMillis() % 7500L) / 7500.0F, 0.8F, 0.8F).getRGB();
                     } else {
-                        outlineColor = (new Color((int) gui.getSetting("Red").getValDouble(), (int) gui.getSetting("Green").getValDouble(), (int) gui.getSetting("Blue").getValDouble())).getRGB();
+                        outlineColor = GUI.INSTANCE.getRGB();
                     }
 
                     GuiUtil.drawHorizontalLine(x1 - 1, x1 + width, y1 - 1, outlineColor);
@@ -40,9 +40,10 @@ public class MixinMinecraft {
 
         if (Keyboard.getEventKeyState()) {
             if (Minecraft.getMinecraft().gameSettings != null && i == Minecraft.getMinecraft().gameSettings.keyBindJump.getKeyCode() && Minecraft.getMinecraft().player != null) {
-                EventPlayerJump event = new EventPlayerJump(Minecraft.getMinecraft().player.motionX, Minecraft.getMinecraft().player.motionZ);
+                EventPlayerJump event = EventPlayerJump.obtain(Minecraft.getMinecraft().player.motionX, Minecraft.getMinecraft().player.motionZ);
 
                 RiftMod.EVENT_BUS.post(event);
+                event.release();
             }
 
             if (RiftMod.fevents.moduleManager != null) {
@@ -85,9 +86,10 @@ public class MixinMinecraft {
         at = {             @At("HEAD")}
     )
     private void middleClickMouse(CallbackInfo callback) {
-        MiddleClickEvent mce = new MiddleClickEvent();
+        MiddleClickEvent mce = MiddleClickEvent.obtain();
 
         RiftMod.EVENT_BUS.post(mce);
+        mce.release();
     }
 
     @Inject(
@@ -4,6 +4,7 @@ import io.netty.channel.ChannelHandlerContext;
 import live.rift.RiftMod;
 import live.rift.event.events.PacketEvent;
 import live.rift.event.events.PopTotemEvent;
+import live.rift.util.Wrapper;
 import net.minecraft.client.Minecraft;
 import net.minecraft.entity.Entity;
 import net.minecraft.network.NetworkManager;
@@ -26,13 +27,16 @@ public class MixinNetworkManager {
         cancellable = true
     )
     private void onSendPacket(Packet packet, CallbackInfo callbackInfo) {
-        PacketEvent.Send event = new PacketEvent.Send(packet);
+        if (RiftMod.EVENT_BUS.hasListeners(PacketEvent.Send.class, packet.getClass())) {
+            PacketEvent.Send event = PacketEvent.Send.obtain(packet);
 
-        RiftMod.EVENT_BUS.post(event);
-        if (event.isCancelled()) {
-            callbackInfo.cancel();
-        }
+            RiftMod.EVENT_BUS.post(event);
+            if (event.isCancelled()) {
+                callbackInfo.cancel();
+            }
 
+            event.release();
+        }
     }
 
     @Inject(
@@ -41,17 +45,27 @@ public class MixinNetworkManager {
         cancellable = true
     )
     private void onChannelRead(ChannelHandlerContext context, Packet packet, CallbackInfo callbackInfo) {
-        PacketEvent.Receive event = new PacketEvent.Receive(packet);
+        PacketEvent.Receive event = null;
 
-        RiftMod.EVENT_BUS.post(event);
-        if (event != null && event.getPacket() != null && event.getPacket() instanceof SPacketEntityStatus && ((SPacketEntityStatus) event.getPacket()).getOpCode() == 35 && Minecraft.getMinecraft().world != null && ((SPacketEntityStatus) event.getPacket()).getEntity(Minecraft.getMinecraft().world) != null) {
-            Entity entity = ((SPacketEntityStatus) event.getPacket()).getEntity(Minecraft.getMinecraft().world);
+        if (RiftMod.EVENT_BUS.hasListeners(PacketEvent.Receive.class, packet.getClass())) {
+            event = PacketEvent.Receive.obtain(packet);
+            RiftMod.EVENT_BUS.post(event);
+        }
 
-            RiftMod.EVENT_BUS.post(new PopTotemEvent(entity));
+        if (packet instanceof SPacketEntityStatus && ((SPacketEntityStatus) packet).getOpCode() == 35 && Minecraft.getMinecraft().world != null && ((SPacketEntityStatus) packet).getEntity(Minecraft.getMinecraft().world) != null) {
+            Entity entity = ((SPacketEntityStatus) packet).getEntity(Minecraft.getMinecraft().world);
+
+            Wrapper.runOnClientThread(() -> {
+                RiftMod.EVENT_BUS.post(new PopTotemEvent(entity));
+            });
         }
 
-        if (event.isCancelled()) {
-            callbackInfo.cancel();
+        if (event != null) {
+            if (event.isCancelled()) {
+                callbackInfo.cancel();
+            }
+
+            event.release();
         }
 
     }
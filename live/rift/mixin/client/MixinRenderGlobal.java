@@ -22,7 +22,7 @@ public class MixinRenderGlobal {
             )
     )
     public Vec3d getSkyColorRedirect(WorldClient worldClient, Entity entityIn, float partialTicks) {
-        SkyColor mod = (SkyColor) RiftMod.fevents.moduleManager.getModule("SkyColor");
+        SkyColor mod = (SkyColor) RiftMod.fevents.moduleManager.getModule(SkyColor.class);
 
         if (mod.isEnabled()) {
             if (Minecraft.getMinecraft().player.dimension == 0) {
@@ -1,6 +1,7 @@
 package live.rift.mixin.client;
 
 import live.rift.RiftMod;
+import live.rift.module.modules.render.Nametags;
 import net.minecraft.client.entity.AbstractClientPlayer;
 import net.minecraft.client.renderer.entity.RenderPlayer;
 import org.spongepowered.asm.mixin.Mixin;
@@ -20,7 +21,7 @@ public class MixinRenderPlayer {
         cancellable = true
     )
     public void renderLivingLabel(AbstractClientPlayer entityIn, double x, double y, double z, String name, double distanceSq, CallbackInfo info) {
-        if (RiftMod.fevents.moduleManager != null && RiftMod.fevents.moduleManager.getModule("NameTags") != null && RiftMod.fevents.moduleManager.getModule("NameTags").isEnabled()) {
+        if (RiftMod.fevents.moduleManager != null && RiftMod.fevents.moduleManager.getModule(Nametags.class) != null && RiftMod.fevents.moduleManager.getModule(Nametags.class).isEnabled()) {
             info.cancel();
         }
 
@@ -10,6 +10,7 @@ import net.minecraft.client.Minecraft;
 
 public class Module {
 
+    public static final int RENDER_ONLY = 0;
     public String name;
     public int key;
     public Category category;
@@ -18,13 +19,16 @@ public class Module {
     protected static Minecraft mc = Minecraft.getMinecraft();
     Configuration config = new Configuration();
     public boolean visible;
+    private int tickInterval;
+    private Setting visibleSetting;
 
     public Module(String name, int keyCode, Category cate) {
         this.key = keyCode;
         this.category = cate;
         this.name = name;
+        this.tickInterval = this.overridesUpdate() ? 1 : Module.RENDER_ONLY;
 
-        new Setting("Visible", this, true);
+        this.visibleSetting = new Setting("Visible", this, true);
         this.getName();
         this.load();
     }
@@ -63,7 +67,7 @@ public class Module {
     }
 
     public boolean isVisible() {
-        return this.getSetting("Visible").getValBoolean();
+        return this.visibleSetting.getValBoolean();
     }
 
     public int getKey() {
@@ -96,6 +100,26 @@ public class Module {
         this.modInfo = info;
     }
 
+    public int getTickInterval() {
+        return this.tickInterval;
+    }
+
+    public void setTickInterval(int ticks) {
+        this.tickInterval = Math.max(Module.RENDER_ONLY, ticks);
+    }
+
+    public boolean shouldTick(int tick, boolean start) {
+        return this.tickInterval == 1 || start && this.tickInterval != Module.RENDER_ONLY && tick % this.tickInterval == 0;
+    }
+
+    private boolean overridesUpdate() {
+        try {
+            return this.getClass().getMethod("onUpdate", new Class[0]).getDeclaringClass() != Module.class;
+        } catch (NoSuchMethodException nosuchmethodexception) {
+            return true;
+        }
+    }
+
     public void onToggle(boolean state) {}
 
     public void onEnable() {}
@@ -126,10 +150,12 @@ public class Module {
 
     public void enable() {
         this.state = true;
+        this.stateChanged();
     }
 
     public void disable() {
         this.state = false;
+        this.stateChanged();
     }
 
     public boolean getState() {
@@ -138,9 +164,17 @@ public class Module {
 
     public void setState(boolean state) {
         this.state = state;
+        this.stateChanged();
         this.subscribeState(state);
     }
 
+    private void stateChanged() {
+        if (RiftMod.fevents != null && RiftMod.fevents.moduleManager != null) {
+            RiftMod.fevents.moduleManager.onStateChanged(this);
+        }
+
+    }
+
     public void subscribeState(boolean s) {
         if (s) {
             this.onEnable();
@@ -0,0 +1,83 @@
+package live.rift.module;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.TreeSet;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+@SupportedAnnotationTypes({ "*"})
+public class ModuleIndexProcessor extends AbstractProcessor {
+
+    private final Set modules = new TreeSet();
+
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    public boolean process(Set annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            this.write();
+            return false;
+        } else {
+            TypeElement base = this.processingEnv.getElementUtils().getTypeElement("live.rift.module.Module");
+
+            if (base == null) {
+                return false;
+            } else {
+                TypeMirror baseType = this.processingEnv.getTypeUtils().erasure(base.asType());
+                Iterator iterator = roundEnv.getRootElements().iterator();
+
+                while (iterator.hasNext()) {
+                    Element element = (Element) iterator.next();
+
+                    if (element.getKind() == ElementKind.CLASS && !element.getModifiers().contains(Modifier.ABSTRACT) && element.getModifiers().contains(Modifier.PUBLIC)) {
+                        TypeElement type = (TypeElement) element;
+                        String name = type.getQualifiedName().toString();
+
+                        if (name.startsWith(ModuleManager.MODULE_PACKAGE + ".") && !type.equals(base) && this.processingEnv.getTypeUtils().isAssignable(type.asType(), baseType)) {
+                            this.modules.add(this.processingEnv.getElementUtils().getBinaryName(type).toString());
+                        }
+                    }
+                }
+
+                return false;
+            }
+        }
+    }
+
+    private void write() {
+        if (!this.modules.isEmpty()) {
+            try {
+                FileObject file = this.processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", ModuleManager.MODULE_INDEX, new Element[0]);
+                Writer writer = file.openWriter();
+
+                try {
+                    Iterator iterator = this.modules.iterator();
+
+                    while (iterator.hasNext()) {
+                        writer.write((String) iterator.next());
+                        writer.write(10);
+                    }
+                } finally {
+                    writer.close();
+                }
+            } catch (IOException ioexception) {
+                this.processingEnv.getMessager().printMessage(Kind.WARNING, "[Rift] Cannot write module index: " + ioexception.getMessage());
+            }
+
+        }
+    }
+}
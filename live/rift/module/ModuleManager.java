@@ -1,13 +1,23 @@
 package live.rift.module;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import live.rift.event.events.RenderEvent;
 import live.rift.setting.Setting;
 import live.rift.util.RiftRenderer;
+import live.rift.util.StartupTracer;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.GlStateManager;
 import net.minecraft.entity.Entity;
@@ -18,15 +28,25 @@ import org.reflections.scanners.Scanner;
 
 public class ModuleManager {
 
+    public static final String MODULE_PACKAGE = "live.rift.module.modules";
+    public static final String MODULE_INDEX = "META-INF/rift/modules.idx";
     public ArrayList modules = new ArrayList();
+    private final Map modulesByClass = new IdentityHashMap();
+    private volatile Module[] enabledModules = new Module[0];
+    private int ticks;
 
     public ModuleManager() {
-        Reflections reflections = new Reflections("live.rift.module.modules", new Scanner[0]);
-        Set classes = reflections.getSubTypesOf(Module.class);
+        List classes = this.readIndex();
+
+        if (classes == null) {
+            classes = new ArrayList(this.scan());
+        }
+
         Iterator lengthComp = classes.iterator();
 
         while (lengthComp.hasNext()) {
             Class m = (Class) lengthComp.next();
+            StartupTracer.Span span = StartupTracer.begin("module " + m.getSimpleName());
 
             try {
                 this.modules.add(m.newInstance());
@@ -34,6 +54,8 @@ public class ModuleManager {
                 System.out.println("[Rift] Cannot create class instance of " + m.getName());
             } catch (IllegalAccessException illegalaccessexception) {
                 System.out.println("[Rift] Cannot access Module class " + m.getName());
+            } finally {
+                span.end();
             }
         }
 
@@ -44,9 +66,80 @@ public class ModuleManager {
         };
 
         Collections.sort(this.modules, lengthComp1);
+        Iterator iterator = this.modules.iterator();
+
+        while (iterator.hasNext()) {
+            Module module = (Module) iterator.next();
+
+            this.modulesByClass.put(module.getClass(), module);
+        }
+
         this.addBinds();
     }
 
+    private List readIndex() {
+        StartupTracer.Span span = StartupTracer.begin("module index");
+
+        try {
+            return this.readIndex0();
+        } finally {
+            span.end();
+        }
+    }
+
+    private List readIndex0() {
+        ClassLoader loader = ModuleManager.class.getClassLoader();
+        InputStream in = loader.getResourceAsStream(ModuleManager.MODULE_INDEX);
+
+        if (in == null) {
+            System.out.println("[Rift] No module index found, scanning " + ModuleManager.MODULE_PACKAGE);
+            return null;
+        } else {
+            ArrayList classes = new ArrayList();
+
+            try {
+                BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+
+                try {
+                    String line;
+
+                    while ((line = reader.readLine()) != null) {
+                        line = line.trim();
+                        if (!line.isEmpty()) {
+                            Class oclass = Class.forName(line, false, loader);
+
+                            if (Module.class.isAssignableFrom(oclass)) {
+                                classes.add(oclass);
+                            }
+                        }
+                    }
+                } finally {
+                    reader.close();
+                }
+            } catch (IOException ioexception) {
+                System.out.println("[Rift] Cannot read module index, scanning " + ModuleManager.MODULE_PACKAGE);
+                return null;
+            } catch (ClassNotFoundException classnotfoundexception) {
+                System.out.println("[Rift] Stale module index (" + classnotfoundexception.getMessage() + "), scanning " + ModuleManager.MODULE_PACKAGE);
+                return null;
+            }
+
+            return classes.isEmpty() ? null : classes;
+        }
+    }
+
+    private Set scan() {
+        StartupTracer.Span span = StartupTracer.begin("reflections scan");
+
+        try {
+            Reflections reflections = new Reflections(ModuleManager.MODULE_PACKAGE, new Scanner[0]);
+
+            return reflections.getSubTypesOf(Module.class);
+        } finally {
+            span.end();
+        }
+    }
+
     public void addBinds() {
         Iterator iterator = this.modules.iterator();
 
@@ -72,9 +165,23 @@ public class ModuleManager {
         RenderEvent e = new RenderEvent(RiftRenderer.INSTANCE, renderPos);
 
         e.resetTranslation();
+        RiftRenderer.beginBatch(renderPos);
         Minecraft.getMinecraft().profiler.endSection();
-        this.getEnabledModules().stream().filter(test<invokedynamic>()).forEach(accept<invokedynamic>(e));
-        Minecraft.getMinecraft().profiler.startSection("release");
+        Module[] enabled = this.enabledModules;
+
+        for (int i = 0; i < enabled.length; ++i) {
+            Module module = enabled[i];
+
+            if (module.isEnabled()) {
+                Minecraft.getMinecraft().profiler.startSection(module.getName());
+                module.onWorld(e);
+                Minecraft.getMinecraft().profiler.endSection();
+            }
+        }
+
+        Minecraft.getMinecraft().profiler.startSection("batch");
+        RiftRenderer.flushBatch();
+        Minecraft.getMinecraft().profiler.endStartSection("release");
         GlStateManager.glLineWidth(1.0F);
         GlStateManager.shadeModel(7424);
         GlStateManager.disableBlend();
@@ -103,7 +210,15 @@ public class ModuleManager {
         return getInterpolatedAmount(entity, ticks, ticks, ticks);
     }
 
-    public ArrayList getEnabledModules() {
+    public List getEnabledModules() {
+        return Arrays.asList(this.enabledModules);
+    }
+
+    public Module[] getEnabledArray() {
+        return this.enabledModules;
+    }
+
+    public synchronized void onStateChanged(Module changed) {
         ArrayList enabledModules = new ArrayList();
         Iterator iterator = this.modules.iterator();
 
@@ -115,7 +230,36 @@ public class ModuleManager {
             }
         }
 
-        return enabledModules;
+        this.enabledModules = (Module[]) enabledModules.toArray(new Module[0]);
+    }
+
+    public void onTick(boolean start) {
+        if (start) {
+            ++this.ticks;
+        }
+
+        int tick = this.ticks;
+        Module[] enabled = this.enabledModules;
+
+        for (int i = 0; i < enabled.length; ++i) {
+            if (enabled[i].shouldTick(tick, start)) {
+                enabled[i].onUpdate();
+            }
+        }
+
+    }
+
+    public void onRender() {
+        Module[] enabled = this.enabledModules;
+
+        for (int i = 0; i < enabled.length; ++i) {
+            enabled[i].onRender();
+        }
+
+    }
+
+    public Module getModule(Class type) {
+        return (Module) this.modulesByClass.get(type);
     }
 
     public Module getModule(String name) {
@@ -167,14 +311,4 @@ public class ModuleManager {
 
         return modules;
     }
-
-    private static void lambda$onWorldRender$1(RenderEvent e, Module module) {
-        Minecraft.getMinecraft().profiler.startSection(module.getName());
-        module.onWorld(e);
-        Minecraft.getMinecraft().profiler.endSection();
-    }
-
-    private static boolean lambda$onWorldRender$0(Module module) {
-        return module.isEnabled();
-    }
 }
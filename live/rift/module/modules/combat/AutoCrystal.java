@@ -1,8 +1,6 @@
 package live.rift.module.modules.combat;
 
-import java.awt.Color;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
@@ -10,8 +8,6 @@ import java.util.Objects;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.ToDoubleFunction;
-import java.util.stream.Collectors;
-import live.rift.RiftMod;
 import live.rift.event.events.PacketEvent;
 import live.rift.event.events.RenderEvent;
 import live.rift.friends.Friends;
@@ -19,7 +15,11 @@ import live.rift.message.Messages;
 import live.rift.module.Category;
 import live.rift.module.Module;
 import live.rift.module.ModuleManager;
+import live.rift.module.modules.hud.GUI;
 import live.rift.setting.Setting;
+import live.rift.util.BlockIndex;
+import live.rift.util.BlockSphere;
+import live.rift.util.HoleIndex;
 import live.rift.util.RainbowUtil;
 import live.rift.util.RiftRenderer;
 import me.zero.alpine.listener.EventHandler;
@@ -33,12 +33,10 @@ import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.entity.SharedMonsterAttributes;
 import net.minecraft.entity.item.EntityEnderCrystal;
 import net.minecraft.entity.player.EntityPlayer;
-import net.minecraft.init.Blocks;
 import net.minecraft.init.Items;
 import net.minecraft.init.SoundEvents;
 import net.minecraft.item.ItemFood;
 import net.minecraft.item.ItemTool;
-import net.minecraft.network.Packet;
 import net.minecraft.network.play.client.CPacketPlayer;
 import net.minecraft.network.play.client.CPacketPlayerTryUseItemOnBlock;
 import net.minecraft.network.play.server.SPacketSoundEffect;
@@ -52,6 +50,7 @@ import net.minecraft.util.NonNullList;
 import net.minecraft.util.SoundCategory;
 import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.BlockPos.MutableBlockPos;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.math.RayTraceResult;
 import net.minecraft.util.math.Vec3d;
@@ -59,6 +58,8 @@ import net.minecraft.world.Explosion;
 
 public class AutoCrystal extends Module {
 
+    private final MutableBlockPos spherePos = new MutableBlockPos();
+    private final BlockIndex.Window window = new BlockIndex.Window();
     private final Setting range = new Setting("Range", this, 5.5D, 1.0D, 10.0D, false);
     private final Setting wallRange = new Setting("Wall Range", this, 3.0D, 0.0D, 10.0D, false);
     private final Setting enemyRange = new Setting("Enemy Range", this, 13.0D, 8.0D, 18.0D, true);
@@ -110,50 +111,47 @@ public class AutoCrystal extends Module {
     private static double yaw;
     private static double pitch;
     @EventHandler
-    private Listener cPacketListener = new Listener((event) -> {
-        Packet packet = event.getPacket();
-
-        if (packet instanceof CPacketPlayer) {
-            if (this.hitTicks == 0 && this.sendOnGroundPackets.getValBoolean()) {
-                ((CPacketPlayer) packet).onGround = true;
-            } else if ((double) this.hitTicks >= this.hitDelay.getValDouble() * 2.0D && this.sendOnGroundPackets.getValBoolean() && !((CPacketPlayer) packet).onGround) {
-                ((CPacketPlayer) packet).onGround = false;
-            }
+    private Listener cPacketListener = new Listener(PacketEvent.Send.class, (event) -> {
+        CPacketPlayer packet = (CPacketPlayer) event.getPacket();
 
-            if (AutoCrystal.isSpoofingAngles) {
-                ((CPacketPlayer) packet).yaw = (float) AutoCrystal.yaw;
-                ((CPacketPlayer) packet).pitch = (float) AutoCrystal.pitch;
-            }
+        if (this.hitTicks == 0 && this.sendOnGroundPackets.getValBoolean()) {
+            packet.onGround = true;
+        } else if ((double) this.hitTicks >= this.hitDelay.getValDouble() * 2.0D && this.sendOnGroundPackets.getValBoolean() && !packet.onGround) {
+            packet.onGround = false;
+        }
+
+        if (AutoCrystal.isSpoofingAngles) {
+            packet.yaw = (float) AutoCrystal.yaw;
+            packet.pitch = (float) AutoCrystal.pitch;
         }
 
-    }, new Predicate[0]);
+    }, CPacketPlayer.class, new Predicate[0]);
     @EventHandler
-    private Listener sPacketListener = new Listener((event) -> {
-        if (event.getPacket() instanceof SPacketSoundEffect) {
-            SPacketSoundEffect p = (SPacketSoundEffect) event.getPacket();
+    private Listener soundPacketListener = new Listener(PacketEvent.Receive.class, (event) -> {
+        SPacketSoundEffect p = (SPacketSoundEffect) event.getPacket();
 
-            if (p.getCategory() == SoundCategory.BLOCKS && p.getSound() == SoundEvents.ENTITY_GENERIC_EXPLODE) {
-                Iterator iterator = (new ArrayList(AutoCrystal.mc.world.loadedEntityList)).iterator();
+        if (p.getCategory() == SoundCategory.BLOCKS && p.getSound() == SoundEvents.ENTITY_GENERIC_EXPLODE) {
+            Iterator iterator = (new ArrayList(AutoCrystal.mc.world.loadedEntityList)).iterator();
 
-                while (iterator.hasNext()) {
-                    Entity e = (Entity) iterator.next();
+            while (iterator.hasNext()) {
+                Entity e = (Entity) iterator.next();
 
-                    if (e instanceof EntityEnderCrystal && e.getDistance(p.getX(), p.getY(), p.getZ()) <= 6.0D) {
-                        e.setDead();
-                    }
+                if (e instanceof EntityEnderCrystal && e.getDistance(p.getX(), p.getY(), p.getZ()) <= 6.0D) {
+                    e.setDead();
                 }
             }
         }
 
-        if (event.getPacket() instanceof SPacketSpawnObject) {
-            SPacketSpawnObject p1 = (SPacketSpawnObject) event.getPacket();
+    }, SPacketSoundEffect.class, new Predicate[0]);
+    @EventHandler
+    private Listener spawnPacketListener = new Listener(PacketEvent.Receive.class, (event) -> {
+        SPacketSpawnObject p1 = (SPacketSpawnObject) event.getPacket();
 
-            if (p1.getType() == 51 && this.q != null && (new BlockPos(p1.getX(), p1.getY(), p1.getZ())).down() == this.q) {
-                this.crystalsPP.add(p1.getUniqueId());
-            }
+        if (p1.getType() == 51 && this.q != null && (new BlockPos(p1.getX(), p1.getY(), p1.getZ())).down() == this.q) {
+            this.crystalsPP.add(p1.getUniqueId());
         }
 
-    }, new Predicate[0]);
+    }, SPacketSpawnObject.class, new Predicate[0]);
     RainbowUtil rutil = new RainbowUtil(9);
 
     public AutoCrystal() {
@@ -439,9 +437,6 @@ public class AutoCrystal extends Module {
 
     public void onWorld(RenderEvent e) {
         int rgb = this.getColor(this.ri);
-        int r = rgb >> 16 & 255;
-        int g = rgb >> 8 & 255;
-        int b = rgb & 255;
 
         if (this.target != null) {
             if (this.targetRender.getValBoolean()) {
@@ -461,12 +456,9 @@ public class AutoCrystal extends Module {
             }
 
             if (this.q != null) {
-                RiftRenderer.prepare(7);
-                RiftRenderer.drawOTwoBoundingBoxBlockPos(this.q.up(), 1.0F, r, g, b, 255);
-                RiftRenderer.release();
-                RiftRenderer.prepare(7);
-                RiftRenderer.drawOTwoBox(this.q.up(), r, g, b, 100, 63);
-                RiftRenderer.release();
+                RiftRenderer.submitOutline((double) this.q.x, (double) (this.q.y + 1), (double) this.q.z, 1.0D, 0.1D, 1.0D, 1.0F, rgb | -16777216);
+                RiftRenderer.submitBox((double) this.q.x, (double) (this.q.y + 1), (double) this.q.z, 1.0D, 0.1D, 1.0D, rgb & 16777215 | 1677721600, 63);
+                RiftRenderer.flushBatch();
                 GlStateManager.pushMatrix();
                 glBillboardDistanceScaled((float) this.q.getX() + 0.5F, (float) this.q.getY() + 1.1F, (float) this.q.getZ() + 0.5F, AutoCrystal.mc.player, 1.0F);
                 String damageText1 = (Math.floor((double) calculateDamage((double) this.q.x + 0.5D, (double) (this.q.y + 1), (double) this.q.z + 0.5D, this.target)) == (double) calculateDamage((double) this.q.x + 0.5D, (double) (this.q.y + 1), (double) (this.q.z + 0), this.target) ? Integer.valueOf((int) calculateDamage((double) this.q.x + 0.5D, (double) this.q.y + 1.5D, (double) this.q.z + 0.5D, this.target)) : String.format("%.1f", new Object[] { Float.valueOf(calculateDamage((double) this.q.x + 0.5D, (double) this.q.y + 1.5D, (double) this.q.z + 0.5D, this.target))})) + "";
@@ -482,8 +474,9 @@ public class AutoCrystal extends Module {
     public boolean canPlaceCrystal(BlockPos blockPos) {
         BlockPos boost = blockPos.add(0, 1, 0);
         BlockPos boost2 = blockPos.add(0, 2, 0);
+        BlockIndex blocks = BlockIndex.Get();
 
-        return (AutoCrystal.mc.world.getBlockState(blockPos).getBlock() == Blocks.BEDROCK || AutoCrystal.mc.world.getBlockState(blockPos).getBlock() == Blocks.OBSIDIAN) && AutoCrystal.mc.world.getBlockState(boost).getBlock() == Blocks.AIR && AutoCrystal.mc.world.getBlockState(boost2).getBlock() == Blocks.AIR && AutoCrystal.mc.world.getEntitiesWithinAABB(Entity.class, new AxisAlignedBB(boost)).isEmpty() && AutoCrystal.mc.world.getEntitiesWithinAABB(Entity.class, new AxisAlignedBB(boost2)).isEmpty();
+        return (blocks.is(blockPos, BlockIndex.BEDROCK) || blocks.is(blockPos, BlockIndex.OBSIDIAN)) && blocks.isAir(boost) && blocks.isAir(boost2) && AutoCrystal.mc.world.getEntitiesWithinAABB(Entity.class, new AxisAlignedBB(boost)).isEmpty() && AutoCrystal.mc.world.getEntitiesWithinAABB(Entity.class, new AxisAlignedBB(boost2)).isEmpty();
     }
 
     public static BlockPos getPlayerPos() {
@@ -493,33 +486,33 @@ public class AutoCrystal extends Module {
     private List findCrystalBlocks() {
         NonNullList positions = NonNullList.create();
 
-        positions.addAll((Collection) getSphere(getPlayerPos(), (float) this.range.getValDouble(), (int) this.range.getValDouble(), false, true, 0).stream().filter(this::canPlaceCrystal).sorted(Comparator.comparingDouble((b) -> {
-            return ((Entity) (this.target == null ? AutoCrystal.mc.player : this.target)).getDistanceSq(b);
-        })).collect(Collectors.toList()));
-        return positions;
-    }
+        BlockPos player = getPlayerPos();
+        float range = (float) this.range.getValDouble();
+        BlockSphere reach = BlockSphere.of(range);
+        BlockSphere order = reach;
+        BlockPos origin = player;
+        int first = 0;
+        int kinds = 1 << BlockIndex.OBSIDIAN | 1 << BlockIndex.BEDROCK;
 
-    public static List getSphere(BlockPos loc, float r, int h, boolean hollow, boolean sphere, int plus_y) {
-        ArrayList circleblocks = new ArrayList();
-        int cx = loc.getX();
-        int cy = loc.getY();
-        int cz = loc.getZ();
+        if (this.target != null) {
+            origin = new BlockPos(Math.floor(this.target.posX), Math.floor(this.target.posY), Math.floor(this.target.posZ));
+            double distance = Math.sqrt(player.distanceSq(origin));
 
-        for (int x = cx - (int) r; (float) x <= (float) cx + r; ++x) {
-            for (int z = cz - (int) r; (float) z <= (float) cz + r; ++z) {
-                for (int y = sphere ? cy - (int) r : cy; (float) y < (sphere ? (float) cy + r : (float) (cy + h)); ++y) {
-                    double dist = (double) ((cx - x) * (cx - x) + (cz - z) * (cz - z) + (sphere ? (cy - y) * (cy - y) : 0));
+            order = BlockSphere.of((float) Math.ceil((double) range + distance));
+            if (distance > (double) range) {
+                first = order.indexOf((int) Math.floor((distance - (double) range) * (distance - (double) range)));
+            }
+        }
 
-                    if (dist < (double) (r * r) && (!hollow || dist >= (double) ((r - 1.0F) * (r - 1.0F)))) {
-                        BlockPos l = new BlockPos(x, y + plus_y, z);
+        reach.load(player, this.window);
 
-                        circleblocks.add(l);
-                    }
-                }
+        for (int i = order.next(first, origin, this.window, kinds, this.spherePos); i < order.size(); i = order.next(i + 1, origin, this.window, kinds, this.spherePos)) {
+            if ((order == reach || reach.contains(player, this.spherePos)) && this.canPlaceCrystal(this.spherePos)) {
+                positions.add(this.spherePos.toImmutable());
             }
         }
 
-        return circleblocks;
+        return positions;
     }
 
     public static float calculateDamage(double posX, double posY, double posZ, Entity entity) {
@@ -611,52 +604,7 @@ public class AutoCrystal extends Module {
     }
 
     public boolean isInHole(Entity e) {
-        int holeBlocks = 0;
-        int lowerBlocks = 0;
-        BlockPos pos = new BlockPos(Math.floor(e.getPositionVector().x), Math.floor(e.getPositionVector().y), Math.floor(e.getPositionVector().z));
-        BlockPos[] offset = new BlockPos[] { new BlockPos(1, 0, 0), new BlockPos(-1, 0, 0), new BlockPos(0, 0, 1), new BlockPos(0, 0, -1)};
-        BlockPos[] lower = new BlockPos[] { new BlockPos(1, -1, 0), new BlockPos(-1, -1, 0), new BlockPos(0, -1, 1), new BlockPos(0, -1, -1)};
-        int i = -1;
-        BlockPos[] ablockpos = offset;
-        int i = offset.length;
-
-        int j;
-        BlockPos l;
-        BlockPos finalp;
-        Block b;
-
-        for (j = 0; j < i; ++j) {
-            l = ablockpos[j];
-            ++i;
-            finalp = pos.add(l);
-            b = AutoCrystal.mc.world.getBlockState(finalp.down()).getBlock();
-            Block b1 = AutoCrystal.mc.world.getBlockState(finalp).getBlock();
-
-            if (b1 == Blocks.OBSIDIAN || b1 == Blocks.BEDROCK) {
-                ++holeBlocks;
-                if (b == Blocks.AIR) {
-                    --lowerBlocks;
-                }
-            }
-        }
-
-        ablockpos = lower;
-        i = lower.length;
-
-        for (j = 0; j < i; ++j) {
-            l = ablockpos[j];
-            finalp = pos.add(l);
-            b = AutoCrystal.mc.world.getBlockState(finalp).getBlock();
-            if (b == Blocks.OBSIDIAN || b == Blocks.BEDROCK) {
-                ++lowerBlocks;
-            }
-        }
-
-        if (holeBlocks < lowerBlocks) {
-            return false;
-        } else {
-            return holeBlocks >= 4 || holeBlocks + lowerBlocks == 4;
-        }
+        return HoleIndex.Get().isHole(new BlockPos(Math.floor(e.posX), Math.floor(e.posY), Math.floor(e.posZ)));
     }
 
     public static void glBillboard(float x, float y, float z) {
@@ -691,10 +639,10 @@ public class AutoCrystal extends Module {
         boolean color = true;
         int color1;
 
-        if (RiftMod.setmgr.getSettingByMod("Rainbow", RiftMod.fevents.moduleManager.getModule("Gui")).getValBoolean()) {
+        if (GUI.INSTANCE.rainbow.getValBoolean()) {
             color1 = this.rutil.GetRainbowColorAt(index);
         } else {
-            color1 = (new Color((int) RiftMod.setmgr.getSettingByNameMod("Red", "Gui").getValDouble(), (int) RiftMod.setmgr.getSettingByNameMod("Green", "Gui").getValDouble(), (int) RiftMod.setmgr.getSettingByNameMod("Blue", "Gui").getValDouble())).getRGB();
+            color1 = GUI.INSTANCE.getRGB();
         }
 
         return color1;
@@ -231,9 +231,7 @@ public class AutoTrap extends Module {
                     BlockPos a = new BlockPos(this.closestTarget.getPositionVector().add(0.0D, -1.0D, 0.0D).add(p.x, p.y, p.z));
 
                     if (AutoTrap.mc.world.getBlockState(a).getBlock() == Blocks.AIR) {
-                        RiftRenderer.prepare(7);
-                        RiftRenderer.drawBoundingBoxBlockPos(a, 1.0F, 255, 255, 255, 75);
-                        RiftRenderer.release();
+                        RiftRenderer.submitOutline(a, 1.0F, 1275068415);
                     }
                 }
             }
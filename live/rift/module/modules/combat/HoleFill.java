@@ -1,18 +1,17 @@
 package live.rift.module.modules.combat;
 
-import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 import live.rift.event.events.PacketEvent;
 import live.rift.message.Messages;
 import live.rift.module.Category;
 import live.rift.module.Module;
 import live.rift.setting.Setting;
 import live.rift.util.BlockInteractionHelper;
+import live.rift.util.BlockSphere;
 import live.rift.util.BlockUtil;
+import live.rift.util.HoleIndex;
 import me.zero.alpine.listener.EventHandler;
 import me.zero.alpine.listener.EventHook;
 import me.zero.alpine.listener.Listener;
@@ -20,10 +19,8 @@ import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.init.Blocks;
 import net.minecraft.item.Item;
-import net.minecraft.network.Packet;
 import net.minecraft.network.play.client.CPacketPlayer;
 import net.minecraft.util.EnumHand;
-import net.minecraft.util.NonNullList;
 import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 
@@ -39,15 +36,15 @@ public class HoleFill extends Module {
     private static double yaw;
     private static double pitch;
     @EventHandler
-    private Listener packetListener = new Listener((event) -> {
-        Packet packet = event.getPacket();
+    private Listener packetListener = new Listener(PacketEvent.Send.class, (event) -> {
+        CPacketPlayer packet = (CPacketPlayer) event.getPacket();
 
-        if (packet instanceof CPacketPlayer && HoleFill.isSpoofingAngles) {
-            ((CPacketPlayer) packet).yaw = (float) HoleFill.yaw;
-            ((CPacketPlayer) packet).pitch = (float) HoleFill.pitch;
+        if (HoleFill.isSpoofingAngles) {
+            packet.yaw = (float) HoleFill.yaw;
+            packet.pitch = (float) HoleFill.pitch;
         }
 
-    }, new Predicate[0]);
+    }, CPacketPlayer.class, new Predicate[0]);
 
     public HoleFill() {
         super("HoleFiller", 0, Category.COMBAT);
@@ -117,17 +114,7 @@ public class HoleFill extends Module {
     }
 
     private boolean IsHole(BlockPos blockPos) {
-        BlockPos boost = blockPos.add(0, 1, 0);
-        BlockPos boost2 = blockPos.add(0, 0, 0);
-        BlockPos boost3 = blockPos.add(0, 0, -1);
-        BlockPos boost4 = blockPos.add(1, 0, 0);
-        BlockPos boost5 = blockPos.add(-1, 0, 0);
-        BlockPos boost6 = blockPos.add(0, 0, 1);
-        BlockPos boost7 = blockPos.add(0, 2, 0);
-        BlockPos boost8 = blockPos.add(0.5D, 0.5D, 0.5D);
-        BlockPos boost9 = blockPos.add(0, -1, 0);
-
-        return HoleFill.mc.world.getBlockState(boost).getBlock() == Blocks.AIR && HoleFill.mc.world.getBlockState(boost2).getBlock() == Blocks.AIR && HoleFill.mc.world.getBlockState(boost7).getBlock() == Blocks.AIR && (HoleFill.mc.world.getBlockState(boost3).getBlock() == Blocks.OBSIDIAN || HoleFill.mc.world.getBlockState(boost3).getBlock() == Blocks.BEDROCK) && (HoleFill.mc.world.getBlockState(boost4).getBlock() == Blocks.OBSIDIAN || HoleFill.mc.world.getBlockState(boost4).getBlock() == Blocks.BEDROCK) && (HoleFill.mc.world.getBlockState(boost5).getBlock() == Blocks.OBSIDIAN || HoleFill.mc.world.getBlockState(boost5).getBlock() == Blocks.BEDROCK) && (HoleFill.mc.world.getBlockState(boost6).getBlock() == Blocks.OBSIDIAN || HoleFill.mc.world.getBlockState(boost6).getBlock() == Blocks.BEDROCK) && HoleFill.mc.world.getBlockState(boost8).getBlock() == Blocks.AIR && (HoleFill.mc.world.getBlockState(boost9).getBlock() == Blocks.OBSIDIAN || HoleFill.mc.world.getBlockState(boost9).getBlock() == Blocks.BEDROCK);
+        return (HoleIndex.Get().getKind(blockPos) & HoleIndex.OPEN) != 0;
     }
 
     public static BlockPos getPlayerPos() {
@@ -135,40 +122,11 @@ public class HoleFill extends Module {
     }
 
     private boolean isInRange(BlockPos blockPos) {
-        NonNullList positions = NonNullList.create();
-
-        positions.addAll((Collection) this.getSphere(getPlayerPos(), (float) this.range.getValDouble(), (int) this.range.getValDouble(), false, true, 0).stream().filter(this::IsHole).collect(Collectors.toList()));
-        return positions.contains(blockPos);
+        return BlockSphere.of((float) this.range.getValDouble()).contains(getPlayerPos(), blockPos) && this.IsHole(blockPos);
     }
 
     private List findCrystalBlocks() {
-        NonNullList positions = NonNullList.create();
-
-        positions.addAll((Collection) this.getSphere(getPlayerPos(), (float) this.range.getValDouble(), (int) this.range.getValDouble(), false, true, 0).stream().filter(this::IsHole).collect(Collectors.toList()));
-        return positions;
-    }
-
-    public List getSphere(BlockPos loc, float r, int h, boolean hollow, boolean sphere, int plus_y) {
-        ArrayList circleblocks = new ArrayList();
-        int cx = loc.getX();
-        int cy = loc.getY();
-        int cz = loc.getZ();
-
-        for (int x = cx - (int) r; (float) x <= (float) cx + r; ++x) {
-            for (int z = cz - (int) r; (float) z <= (float) cz + r; ++z) {
-                for (int y = sphere ? cy - (int) r : cy; (float) y < (sphere ? (float) cy + r : (float) (cy + h)); ++y) {
-                    double dist = (double) ((cx - x) * (cx - x) + (cz - z) * (cz - z) + (sphere ? (cy - y) * (cy - y) : 0));
-
-                    if (dist < (double) (r * r) && (!hollow || dist >= (double) ((r - 1.0F) * (r - 1.0F)))) {
-                        BlockPos l = new BlockPos(x, y + plus_y, z);
-
-                        circleblocks.add(l);
-                    }
-                }
-            }
-        }
-
-        return circleblocks;
+        return HoleIndex.Get().query(getPlayerPos(), (float) this.range.getValDouble(), HoleIndex.HOLE | HoleIndex.OPEN);
     }
 
     private static void setYawAndPitch(float yaw1, float pitch1) {
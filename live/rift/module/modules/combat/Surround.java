@@ -8,7 +8,9 @@ import live.rift.event.events.EventMotionUpdate;
 import live.rift.module.Category;
 import live.rift.module.Module;
 import live.rift.setting.Setting;
+import live.rift.util.BlockIndex;
 import live.rift.util.BlockUtil;
+import live.rift.util.HoleIndex;
 import me.zero.alpine.listener.EventHandler;
 import me.zero.alpine.listener.Listener;
 import net.minecraft.block.Block;
@@ -54,7 +56,7 @@ public class Surround extends Module {
     public static float pitch;
     private static boolean togglePitch = false;
     @EventHandler
-    public Listener motionEvent = new Listener(invoke<invokedynamic>(), new Predicate[0]);
+    public Listener motionEvent = new Listener(EventMotionUpdate.class, invoke<invokedynamic>(), new Predicate[0]);
 
     public Surround() {
         super("Surround", 0, Category.COMBAT);
@@ -229,9 +231,8 @@ public class Surround extends Module {
             Vec3d vec = avec3d[j];
             BlockPos offsetPos = new BlockPos(vec);
             BlockPos targetPos = (new BlockPos(Surround.mc.player.getPositionVector())).add(offsetPos.x, offsetPos.y, offsetPos.z);
-            Block block = Surround.mc.world.getBlockState(targetPos).getBlock();
 
-            if (block instanceof BlockAir || block instanceof BlockLiquid) {
+            if (BlockIndex.Get().isAir(targetPos) || Surround.mc.world.getBlockState(targetPos).getBlock() instanceof BlockLiquid) {
                 output.add(vec);
             }
         }
@@ -349,22 +350,22 @@ public class Surround extends Module {
     }
 
     public boolean isSurrounded() {
-        int blockCount = 0;
-        Iterator iterator = this.cover.iterator();
+        if (HoleIndex.Get().isHole(Surround.mc.player.getPosition())) {
+            return true;
+        } else {
+            int blockCount = 0;
+            Iterator iterator = this.cover.iterator();
 
-        while (iterator.hasNext()) {
-            BlockPos pos = (BlockPos) iterator.next();
-            Block block = Surround.mc.world.getBlockState(Surround.mc.player.getPosition().add(pos.x, pos.y, pos.z)).getBlock();
+            while (iterator.hasNext()) {
+                BlockPos pos = (BlockPos) iterator.next();
+                BlockPos coverPos = Surround.mc.player.getPosition().add(pos.x, pos.y, pos.z);
 
-            if (!(block instanceof BlockAir) && !(block instanceof BlockLiquid)) {
-                ++blockCount;
+                if (!BlockIndex.Get().isAir(coverPos) && !(Surround.mc.world.getBlockState(coverPos).getBlock() instanceof BlockLiquid)) {
+                    ++blockCount;
+                }
             }
-        }
 
-        if (blockCount == 4) {
-            return true;
-        } else {
-            return false;
+            return blockCount == 4;
         }
     }
 
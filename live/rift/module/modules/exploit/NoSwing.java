@@ -22,15 +22,15 @@ public class NoSwing extends Module {
     int waitTicks = 40;
     Queue packets = new LinkedList();
     @EventHandler
-    public Listener packetSendListener = new Listener((e) -> {
-        if (!this.mode.getValString().equalsIgnoreCase("Spoof") && e.getPacket() instanceof CPacketAnimation) {
+    public Listener packetSendListener = new Listener(PacketEvent.Send.class, (e) -> {
+        if (!this.mode.getValString().equalsIgnoreCase("Spoof")) {
             e.cancel();
             if (this.mode.getValString().equalsIgnoreCase("Delay")) {
                 this.packets.add(e.getPacket());
             }
         }
 
-    }, new Predicate[0]);
+    }, CPacketAnimation.class, new Predicate[0]);
 
     public NoSwing() {
         super("NoSwing", 0, Category.EXPLOITS);
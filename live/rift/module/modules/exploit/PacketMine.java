@@ -21,7 +21,7 @@ public class PacketMine extends Module {
     private BlockPos lastP = null;
     private Block lastB = null;
     @EventHandler
-    public Listener playerDamageBlockEvent = new Listener((p_Event) -> {
+    public Listener playerDamageBlockEvent = new Listener(EventPlayerDamageBlock.class, (p_Event) -> {
         // $FF: Couldn't be decompiled
     }, new Predicate[0]);
 
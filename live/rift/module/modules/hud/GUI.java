@@ -7,6 +7,7 @@ import live.rift.setting.Setting;
 
 public class GUI extends Module {
 
+    public static GUI INSTANCE;
     public Setting red = new Setting("Red", this, 150.0D, 10.0D, 255.0D, true);
     public Setting green = new Setting("Green", this, 150.0D, 10.0D, 255.0D, true);
     public Setting blue = new Setting("Blue", this, 150.0D, 10.0D, 255.0D, true);
@@ -14,6 +15,11 @@ public class GUI extends Module {
 
     public GUI() {
         super("Gui", 205, Category.HUD);
+        GUI.INSTANCE = this;
+    }
+
+    public int getRGB() {
+        return -16777216 | ((int) this.red.getValDouble() & 255) << 16 | ((int) this.green.getValDouble() & 255) << 8 | (int) this.blue.getValDouble() & 255;
     }
 
     public void onToggle(boolean state) {
@@ -1,6 +1,5 @@
 package live.rift.module.modules.hud;
 
-import java.awt.Color;
 import java.awt.Font;
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -14,6 +13,10 @@ import live.rift.font.CFontRenderer;
 import live.rift.gui.util.GuiUtil;
 import live.rift.module.Category;
 import live.rift.module.Module;
+import live.rift.module.modules.combat.AutoCrystal;
+import live.rift.module.modules.combat.AutoTrap;
+import live.rift.module.modules.combat.HoleFill;
+import live.rift.module.modules.combat.Surround;
 import live.rift.setting.Setting;
 import live.rift.util.RainbowUtil;
 import live.rift.util.UIUtil;
@@ -32,6 +35,7 @@ import net.minecraft.util.NonNullList;
 
 public class Hud extends Module {
 
+    public static Hud INSTANCE;
     public Setting watermark = new Setting("Watermark", this, true);
     public Setting cfont = new Setting("CustomFont", this, true);
     public Setting modulearray = new Setting("ArrayList", this, true);
@@ -59,6 +63,8 @@ public class Hud extends Module {
 
     public Hud() {
         super("Hud", 0, Category.HUD);
+        Hud.INSTANCE = this;
+        this.setTickInterval(10);
         this.arrayPositions.add("TopLeft");
         this.arrayPositions.add("TopRight");
         this.arrayPositions.add("BottomRight");
@@ -134,10 +140,10 @@ public class Hud extends Module {
         boolean color = true;
         int color1;
 
-        if (RiftMod.setmgr.getSettingByMod("Rainbow", RiftMod.fevents.moduleManager.getModule("Gui")).getValBoolean()) {
+        if (GUI.INSTANCE.rainbow.getValBoolean()) {
             color1 = this.rutil.GetRainbowColorAt(index);
         } else {
-            color1 = (new Color((int) RiftMod.setmgr.getSettingByNameMod("Red", "Gui").getValDouble(), (int) RiftMod.setmgr.getSettingByNameMod("Green", "Gui").getValDouble(), (int) RiftMod.setmgr.getSettingByNameMod("Blue", "Gui").getValDouble())).getRGB();
+            color1 = GUI.INSTANCE.getRGB();
         }
 
         return color1;
@@ -322,10 +328,10 @@ public class Hud extends Module {
         }
 
         if (this.pvpInfo.getValBoolean()) {
-            String s = "CA: " + (RiftMod.fevents.moduleManager.getModule("AutoCrystal").isEnabled() ? "ON" : "OFF");
-            String s1 = "AT: " + (RiftMod.fevents.moduleManager.getModule("AutoTrap").isEnabled() ? "ON" : "OFF");
-            String s2 = "HF: " + (RiftMod.fevents.moduleManager.getModule("HoleFiller").isEnabled() ? "ON" : "OFF");
-            String s3 = "SU: " + (RiftMod.fevents.moduleManager.getModule("Surround").isEnabled() ? "ON" : "OFF");
+            String s = "CA: " + (RiftMod.fevents.moduleManager.getModule(AutoCrystal.class).isEnabled() ? "ON" : "OFF");
+            String s1 = "AT: " + (RiftMod.fevents.moduleManager.getModule(AutoTrap.class).isEnabled() ? "ON" : "OFF");
+            String s2 = "HF: " + (RiftMod.fevents.moduleManager.getModule(HoleFill.class).isEnabled() ? "ON" : "OFF");
+            String s3 = "SU: " + (RiftMod.fevents.moduleManager.getModule(Surround.class).isEnabled() ? "ON" : "OFF");
             ArrayList arraylist = new ArrayList();
 
             arraylist.add(s);
@@ -2,8 +2,8 @@ package live.rift.module.modules.hud.screen;
 
 import java.awt.Color;
 import java.io.IOException;
-import live.rift.RiftMod;
 import live.rift.command.CommandManager;
+import live.rift.module.modules.hud.GUI;
 import net.minecraft.client.gui.GuiChat;
 import net.minecraft.client.gui.GuiScreen;
 import net.minecraft.client.gui.GuiTextField;
@@ -25,10 +25,10 @@ public class ConsoleScreen extends GuiChat {
         this.inputField.setCanLoseFocus(false);
         int guiColor;
 
-        if (RiftMod.setmgr.getSettingByMod("Rainbow", RiftMod.fevents.moduleManager.getModule("Gui")).getValBoolean()) {
+        if (GUI.INSTANCE.rainbow.getValBoolean()) {
             guiColor = Color.getHSBColor((float) (System.currentTimeMillis() % 7500L) / 7500.0F, 0.8F, 0.8F).getRGB();
         } else {
-            guiColor = (new Color((int) RiftMod.setmgr.getSettingByNameMod("Red", "Gui").getValDouble(), (int) RiftMod.setmgr.getSettingByNameMod("Green", "Gui").getValDouble(), (int) RiftMod.setmgr.getSettingByNameMod("Blue", "Gui").getValDouble())).getRGB();
+            guiColor = GUI.INSTANCE.getRGB();
         }
 
         this.inputField.setTextColor(guiColor);
@@ -19,8 +19,8 @@ public class CustomChat extends Module {
     public ArrayList skid2 = new ArrayList();
     public static final Random rand = new Random();
     @EventHandler
-    public Listener listener = new Listener((event) -> {
-        if (event.getPacket() instanceof CPacketChatMessage && this.isEnabled()) {
+    public Listener listener = new Listener(PacketEvent.Send.class, (event) -> {
+        if (this.isEnabled()) {
             String s = ((CPacketChatMessage) event.getPacket()).getMessage();
 
             if (s.startsWith("/") && !s.startsWith("/w ") && !s.startsWith("/r ") && !s.startsWith("/l ") && !s.startsWith("/msg ")) {
@@ -38,7 +38,7 @@ public class CustomChat extends Module {
             }
         }
 
-    }, new Predicate[0]);
+    }, CPacketChatMessage.class, new Predicate[0]);
 
     public CustomChat() {
         super("CustomChat", 0, Category.MISC);
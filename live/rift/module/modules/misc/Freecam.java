@@ -59,22 +59,21 @@ public class Freecam extends Module {
         }
     }, new Predicate[0]);
     @EventHandler
-    private Listener sendListener = new Listener((event) -> {
-        if (Freecam.mc != null && Freecam.mc.player != null && Freecam.mc.world != null && Freecam.mc.renderGlobal != null) {
-            if (this.cancelPackets.getValBoolean() && (event.getPacket() instanceof CPacketPlayer || event.getPacket() instanceof CPacketInput)) {
-                event.cancel();
-            }
-
-        }
-    }, new Predicate[0]);
+    private Listener sendListener = new Listener(PacketEvent.Send.class, (event) -> {
+        this.cancelMovement(event);
+    }, CPacketPlayer.class, new Predicate[0]);
+    @EventHandler
+    private Listener inputListener = new Listener(PacketEvent.Send.class, (event) -> {
+        this.cancelMovement(event);
+    }, CPacketInput.class, new Predicate[0]);
     @EventHandler
-    private Listener handEvent = new Listener((event) -> {
+    private Listener handEvent = new Listener(RenderHandEvent.class, (event) -> {
         if (Freecam.mc != null && Freecam.mc.player != null && Freecam.mc.world != null && Freecam.mc.renderGlobal != null) {
             event.cancel();
         }
     }, new Predicate[0]);
     @EventHandler
-    private Listener pushListener = new Listener((event) -> {
+    private Listener pushListener = new Listener(PushOutBlockEvent.class, (event) -> {
         event.cancel();
     }, new Predicate[0]);
 
@@ -107,4 +106,13 @@ public class Freecam extends Module {
             Freecam.mc.player.capabilities.isFlying = false;
         }
     }
+
+    private void cancelMovement(PacketEvent.Send event) {
+        if (Freecam.mc != null && Freecam.mc.player != null && Freecam.mc.world != null && Freecam.mc.renderGlobal != null) {
+            if (this.cancelPackets.getValBoolean()) {
+                event.cancel();
+            }
+
+        }
+    }
 }
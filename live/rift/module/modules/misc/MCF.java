@@ -2,6 +2,7 @@ package live.rift.module.modules.misc;
 
 import java.util.function.Predicate;
 import live.rift.RiftMod;
+import live.rift.event.events.MiddleClickEvent;
 import live.rift.friends.Friends;
 import live.rift.message.Messages;
 import live.rift.module.Category;
@@ -14,7 +15,7 @@ import net.minecraft.entity.player.EntityPlayer;
 public class MCF extends Module {
 
     @EventHandler
-    private Listener middleClick = new Listener((event) -> {
+    private Listener middleClick = new Listener(MiddleClickEvent.class, (event) -> {
         if (MCF.mc.objectMouseOver != null && MCF.mc.objectMouseOver.entityHit instanceof EntityPlayer) {
             Friends friends;
 
@@ -3,6 +3,7 @@ package live.rift.module.modules.misc;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.function.Predicate;
+import live.rift.event.events.PopTotemEvent;
 import live.rift.message.Messages;
 import live.rift.module.Category;
 import live.rift.module.Module;
@@ -18,7 +19,7 @@ public class TotemPopAlert extends Module {
     Setting resetLog = new Setting("LogReset", this, true);
     HashMap popped = new HashMap();
     @EventHandler
-    public Listener popEvent = new Listener((event) -> {
+    public Listener popEvent = new Listener(PopTotemEvent.class, (event) -> {
         // $FF: Couldn't be decompiled
     }, new Predicate[0]);
     @EventHandler
@@ -1,22 +1,16 @@
 package live.rift.module.modules.movement;
 
-import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
-import java.util.function.Function;
-import java.util.function.Predicate;
 import live.rift.RiftMod;
 import live.rift.module.Category;
 import live.rift.module.Module;
-import net.minecraft.block.Block;
+import live.rift.util.HoleIndex;
 import net.minecraft.entity.MoverType;
-import net.minecraft.init.Blocks;
 import net.minecraft.network.play.client.CPacketPlayer.Position;
 import net.minecraft.util.math.BlockPos;
 
 public class Anchor extends Module {
 
-    public BlockPos[] offset = new BlockPos[] { new BlockPos(1, 0, 0), new BlockPos(0, 0, 1), new BlockPos(-1, 0, 0), new BlockPos(0, 0, -1)};
     public int sinceTP = 2;
     public boolean didTP = false;
 
@@ -29,35 +23,25 @@ public class Anchor extends Module {
     }
 
     public boolean isHole(BlockPos p) {
-        int blocks = 0;
-        BlockPos[] ablockpos = this.offset;
-        int i = ablockpos.length;
-
-        for (int j = 0; j < i; ++j) {
-            BlockPos o = ablockpos[j];
-            BlockPos f = p.add(o.x, o.y, o.z);
-            Block b = Anchor.mc.world.getBlockState(f).getBlock();
-
-            if (b == Blocks.OBSIDIAN || b == Blocks.BEDROCK || b == Blocks.ENDER_CHEST) {
-                ++blocks;
-            }
-        }
-
-        if (blocks == 4 && Anchor.mc.world.getBlockState(p).getBlock() == Blocks.AIR) {
-            return true;
-        } else {
-            return false;
-        }
+        return HoleIndex.Get().isHole(p);
     }
 
     public void onUpdate() {
-        if (!RiftMod.fevents.moduleManager.getModule("Step").isEnabled() && !RiftMod.fevents.moduleManager.getModule("Speed").isEnabled()) {
+        if (!RiftMod.fevents.moduleManager.getModule(Step.class).isEnabled() && !RiftMod.fevents.moduleManager.getModule(Speed.class).isEnabled()) {
             if (!this.didTP) {
-                BlockPos cH = (BlockPos) getSphere(getPlayerPos(), 1.4F, 3, false, true, 0).stream().filter(this::isHole).map((b) -> {
-                    return b;
-                }).min(Comparator.comparing((b) -> {
-                    return Double.valueOf(Anchor.mc.player.getDistanceSq(b));
-                })).orElse((Object) null);
+                List holes = HoleIndex.Get().query(getPlayerPos(), 1.4F, HoleIndex.HOLE);
+                BlockPos cH = null;
+                double closest = Double.MAX_VALUE;
+
+                for (int i = 0; i < holes.size(); ++i) {
+                    BlockPos hole = (BlockPos) holes.get(i);
+                    double dist = Anchor.mc.player.getDistanceSq(hole);
+
+                    if (dist < closest) {
+                        closest = dist;
+                        cH = hole;
+                    }
+                }
 
                 if (cH == null || Anchor.mc.player == null) {
                     return;
@@ -88,29 +72,6 @@ public class Anchor extends Module {
         }
     }
 
-    public static List getSphere(BlockPos loc, float r, int h, boolean hollow, boolean sphere, int plus_y) {
-        ArrayList circleblocks = new ArrayList();
-        int cx = loc.getX();
-        int cy = loc.getY();
-        int cz = loc.getZ();
-
-        for (int x = cx - (int) r; (float) x <= (float) cx + r; ++x) {
-            for (int z = cz - (int) r; (float) z <= (float) cz + r; ++z) {
-                for (int y = sphere ? cy - (int) r : cy; (float) y < (sphere ? (float) cy + r : (float) (cy + h)); ++y) {
-                    double dist = (double) ((cx - x) * (cx - x) + (cz - z) * (cz - z) + (sphere ? (cy - y) * (cy - y) : 0));
-
-                    if (dist < (double) (r * r) && (!hollow || dist >= (double) ((r - 1.0F) * (r - 1.0F)))) {
-                        BlockPos l = new BlockPos(x, y + plus_y, z);
-
-                        circleblocks.add(l);
-                    }
-                }
-            }
-        }
-
-        return circleblocks;
-    }
-
     private void centerPlayer(double x, double y, double z) {
         Anchor.mc.player.connection.sendPacket(new Position(x, y, z, true));
         Anchor.mc.player.setPosition(x, y, z);
@@ -21,15 +21,21 @@ public class Blink extends Module {
 
     Queue packets = new LinkedList();
     @EventHandler
-    public Listener listener = new Listener((event) -> {
-        if (this.isEnabled()) {
-            if (event.getPacket() instanceof CPacketPlayer || event.getPacket() instanceof CPacketPlayerDigging || event.getPacket() instanceof CPacketAnimation || event.getPacket() instanceof CPacketConfirmTeleport) {
-                event.cancel();
-                this.packets.add(event.getPacket());
-            }
-
-        }
-    }, new Predicate[0]);
+    public Listener listener = new Listener(PacketEvent.Send.class, (event) -> {
+        this.hold(event);
+    }, CPacketPlayer.class, new Predicate[0]);
+    @EventHandler
+    public Listener diggingListener = new Listener(PacketEvent.Send.class, (event) -> {
+        this.hold(event);
+    }, CPacketPlayerDigging.class, new Predicate[0]);
+    @EventHandler
+    public Listener animationListener = new Listener(PacketEvent.Send.class, (event) -> {
+        this.hold(event);
+    }, CPacketAnimation.class, new Predicate[0]);
+    @EventHandler
+    public Listener teleportListener = new Listener(PacketEvent.Send.class, (event) -> {
+        this.hold(event);
+    }, CPacketConfirmTeleport.class, new Predicate[0]);
     private EntityOtherPlayerMP clonedPlayer;
 
     public Blink() {
@@ -63,4 +69,11 @@ public class Blink extends Module {
     public void onUpdate() {
         this.modInfo = String.valueOf(this.packets.size());
     }
+
+    private void hold(PacketEvent.Send event) {
+        if (this.isEnabled()) {
+            event.cancel();
+            this.packets.add(event.getPacket());
+        }
+    }
 }
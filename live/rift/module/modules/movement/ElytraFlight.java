@@ -28,30 +28,31 @@ public class ElytraFlight extends Module {
     public Setting strict;
     public ArrayList upModes = new ArrayList();
     @EventHandler
-    public Listener playerMovelListener = new Listener((e) -> {
+    public Listener playerMovelListener = new Listener(EventPlayerTravel.class, (e) -> {
         if (this.isFlying()) {
             e.cancel();
         }
 
     }, new Predicate[0]);
     @EventHandler
-    public Listener packetListener = new Listener((e) -> {
-        if (e.getPacket() instanceof CPacketPlayer && this.strict.getValBoolean() && !this.up.getValString().equalsIgnoreCase("Glide") && ElytraFlight.mc.player.rotationPitch < 10.0F) {
+    public Listener packetListener = new Listener(PacketEvent.Send.class, (e) -> {
+        if (this.strict.getValBoolean() && !this.up.getValString().equalsIgnoreCase("Glide") && ElytraFlight.mc.player.rotationPitch < 10.0F) {
             CPacketPlayer p = (CPacketPlayer) e.getPacket();
 
             p.pitch = this.pitch;
         }
 
-        if (e.getPacket() instanceof SPacketPlayerPosLook) {
-            SPacketPlayerPosLook p1 = (SPacketPlayerPosLook) e.getPacket();
+    }, CPacketPlayer.class, new Predicate[0]);
+    @EventHandler
+    public Listener posLookListener = new Listener(PacketEvent.Receive.class, (e) -> {
+        SPacketPlayerPosLook p1 = (SPacketPlayerPosLook) e.getPacket();
 
-            if (e.getEra() == AlpineEvent.Era.PRE) {
-                p1.pitch = ElytraFlight.mc.player.rotationPitch;
-                p1.yaw = ElytraFlight.mc.player.rotationYaw;
-            }
+        if (e.getEra() == AlpineEvent.Era.PRE) {
+            p1.pitch = ElytraFlight.mc.player.rotationPitch;
+            p1.yaw = ElytraFlight.mc.player.rotationYaw;
         }
 
-    }, new Predicate[0]);
+    }, SPacketPlayerPosLook.class, new Predicate[0]);
     public boolean didTakeOff = false;
     public float pitch = 0.0F;
     public int boostTicks = 0;
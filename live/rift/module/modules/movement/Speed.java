@@ -28,14 +28,14 @@ public class Speed extends Module {
     public Setting speed;
     private TimerMod Timer = null;
     @EventHandler
-    private Listener OnPlayerJump = new Listener((e) -> {
+    private Listener OnPlayerJump = new Listener(EventPlayerJump.class, (e) -> {
         if (this.mode.getValString().equalsIgnoreCase("Strafe")) {
             e.cancel();
         }
 
     }, new Predicate[0]);
     @EventHandler
-    private Listener OnPlayerMove = new Listener((p_Event) -> {
+    private Listener OnPlayerMove = new Listener(PlayerMoveEvent.class, (p_Event) -> {
         if (!this.mode.getValString().equalsIgnoreCase("OnGround")) {
             if (!Speed.mc.player.isInWater() && !Speed.mc.player.isInLava() || this.waterspeed.getValBoolean()) {
                 if (Speed.mc.player.capabilities == null || !Speed.mc.player.capabilities.isFlying && !Speed.mc.player.isElytraFlying()) {
@@ -69,6 +69,6 @@ public class Step extends Module {
     }
 
     public boolean check() {
-        return !RiftMod.fevents.moduleManager.getModule("Speed").isEnabled() && !Step.mc.player.isInWeb && !Step.mc.player.isInsideOfMaterial(Material.WATER) && !Step.mc.player.isInsideOfMaterial(Material.LAVA);
+        return !RiftMod.fevents.moduleManager.getModule(Speed.class).isEnabled() && !Step.mc.player.isInWeb && !Step.mc.player.isInsideOfMaterial(Material.WATER) && !Step.mc.player.isInsideOfMaterial(Material.LAVA);
     }
 }
@@ -13,16 +13,16 @@ import net.minecraft.network.play.server.SPacketExplosion;
 public class Velocity extends Module {
 
     @EventHandler
-    private Listener receiveListener = new Listener((event) -> {
-        if (event.getPacket() instanceof SPacketEntityVelocity && ((SPacketEntityVelocity) event.getPacket()).getEntityID() == Velocity.mc.player.getEntityId()) {
+    private Listener receiveListener = new Listener(PacketEvent.Receive.class, (event) -> {
+        if (((SPacketEntityVelocity) event.getPacket()).getEntityID() == Velocity.mc.player.getEntityId()) {
             event.cancel();
         }
 
-        if (event.getPacket() instanceof SPacketExplosion) {
-            event.cancel();
-        }
-
-    }, new Predicate[0]);
+    }, SPacketEntityVelocity.class, new Predicate[0]);
+    @EventHandler
+    private Listener explosionListener = new Listener(PacketEvent.Receive.class, (event) -> {
+        event.cancel();
+    }, SPacketExplosion.class, new Predicate[0]);
 
     public Velocity() {
         super("Velocity", 0, Category.MOVEMENT);
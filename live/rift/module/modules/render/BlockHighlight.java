@@ -2,10 +2,10 @@ package live.rift.module.modules.render;
 
 import java.awt.Color;
 import java.util.ArrayList;
-import live.rift.RiftMod;
 import live.rift.event.events.RenderEvent;
 import live.rift.module.Category;
 import live.rift.module.Module;
+import live.rift.module.modules.hud.GUI;
 import live.rift.setting.Setting;
 import live.rift.util.RainbowUtil;
 import live.rift.util.RiftRenderer;
@@ -50,9 +50,7 @@ public class BlockHighlight extends Module {
             AxisAlignedBB bb = BlockHighlight.mc.world.getBlockState(bp).getSelectedBoundingBox(BlockHighlight.mc.world, bp);
 
             if (bb != null && bp != null && BlockHighlight.mc.world.getBlockState(bp).getMaterial() != Material.AIR) {
-                RiftRenderer.prepare(7);
                 this.drawBox(bp, (int) r, (int) g, (int) b, bb);
-                RiftRenderer.release();
             }
         }
 
@@ -66,27 +64,27 @@ public class BlockHighlight extends Module {
 
             if (this.mode.getValString().equals("Face")) {
                 if (ray.sideHit == EnumFacing.DOWN) {
-                    RiftRenderer.drawBox(blockPos, color.getRGB(), 1);
+                    RiftRenderer.submitBox(blockPos, color.getRGB(), 1);
                 }
 
                 if (ray.sideHit == EnumFacing.UP) {
-                    RiftRenderer.drawBox(blockPos, color.getRGB(), 2);
+                    RiftRenderer.submitBox(blockPos, color.getRGB(), 2);
                 }
 
                 if (ray.sideHit == EnumFacing.WEST) {
-                    RiftRenderer.drawBox(blockPos, color.getRGB(), 16);
+                    RiftRenderer.submitBox(blockPos, color.getRGB(), 16);
                 }
 
                 if (ray.sideHit == EnumFacing.EAST) {
-                    RiftRenderer.drawBox(blockPos, color.getRGB(), 32);
+                    RiftRenderer.submitBox(blockPos, color.getRGB(), 32);
                 }
 
                 if (ray.sideHit == EnumFacing.NORTH) {
-                    RiftRenderer.drawBox(blockPos, color.getRGB(), 4);
+                    RiftRenderer.submitBox(blockPos, color.getRGB(), 4);
                 }
 
                 if (ray.sideHit == EnumFacing.SOUTH) {
-                    RiftRenderer.drawBox(blockPos, color.getRGB(), 8);
+                    RiftRenderer.submitBox(blockPos, color.getRGB(), 8);
                 }
             } else if (this.mode.getValString().equals("Outline")) {
                 double x = bb.minX;
@@ -96,7 +94,7 @@ public class BlockHighlight extends Module {
                 double h = bb.maxY - bb.minY;
                 double l = bb.maxZ - bb.minZ;
 
-                RiftRenderer.drawBoundingBox(x, y, z, w, l, h, this.width.getValFloat(), r, g, b, 255);
+                RiftRenderer.submitOutline(x, y, z, w, h, l, this.width.getValFloat(), color.getRGB() | -16777216);
             }
         }
 
@@ -106,10 +104,10 @@ public class BlockHighlight extends Module {
         boolean color = true;
         int color1;
 
-        if (RiftMod.setmgr.getSettingByMod("Rainbow", RiftMod.fevents.moduleManager.getModule("Gui")).getValBoolean()) {
+        if (GUI.INSTANCE.rainbow.getValBoolean()) {
             color1 = this.rutil.GetRainbowColorAt(index);
         } else {
-            color1 = (new Color((int) RiftMod.setmgr.getSettingByNameMod("Red", "Gui").getValDouble(), (int) RiftMod.setmgr.getSettingByNameMod("Green", "Gui").getValDouble(), (int) RiftMod.setmgr.getSettingByNameMod("Blue", "Gui").getValDouble())).getRGB();
+            color1 = GUI.INSTANCE.getRGB();
         }
 
         return color1;
@@ -1,14 +1,13 @@
 package live.rift.module.modules.render;
 
-import java.awt.Color;
 import java.util.ArrayList;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
-import live.rift.RiftMod;
 import live.rift.event.events.RenderEvent;
 import live.rift.module.Category;
 import live.rift.module.Module;
 import live.rift.module.ModuleManager;
+import live.rift.module.modules.hud.GUI;
 import live.rift.setting.Setting;
 import live.rift.util.RainbowUtil;
 import live.rift.util.RiftRenderer;
@@ -44,10 +43,10 @@ public class BoxESP extends Module {
         boolean color = true;
         int color1;
 
-        if (RiftMod.setmgr.getSettingByMod("Rainbow", RiftMod.fevents.moduleManager.getModule("Gui")).getValBoolean()) {
+        if (GUI.INSTANCE.rainbow.getValBoolean()) {
             color1 = this.rutil.GetRainbowColorAt(index);
         } else {
-            color1 = (new Color((int) RiftMod.setmgr.getSettingByNameMod("Red", "Gui").getValDouble(), (int) RiftMod.setmgr.getSettingByNameMod("Green", "Gui").getValDouble(), (int) RiftMod.setmgr.getSettingByNameMod("Blue", "Gui").getValDouble())).getRGB();
+            color1 = GUI.INSTANCE.getRGB();
         }
 
         return color1;
@@ -98,18 +97,17 @@ public class BoxESP extends Module {
                 double l = entities.boundingBox.maxZ - entities.boundingBox.minZ;
                 AxisAlignedBB bb = new AxisAlignedBB(x, y, z, x + w, y + h, z + l);
 
-                RiftRenderer.prepare(7);
                 if (this.players.getValBoolean() && entities instanceof EntityPlayer) {
-                    RiftRenderer.drawboxEntity(bb, this.getColor(this.ri), 50, 63);
+                    RiftRenderer.submitBox(bb, this.getColor(this.ri) & 16777215 | 838860800, 63);
                 }
 
                 if (this.xp.getValBoolean() && entities instanceof EntityExpBottle) {
-                    RiftRenderer.drawboxEntity(bb, this.getColor(this.ri), 50, 63);
+                    RiftRenderer.submitBox(bb, this.getColor(this.ri) & 16777215 | 838860800, 63);
                 }
 
                 if (this.items.getValBoolean() && entities instanceof EntityItem) {
                     bb = new AxisAlignedBB(x, y + 0.3D, z, x + w, y + 0.3D + h, z + l);
-                    RiftRenderer.drawboxEntity(bb, this.getColor(this.ri), 50, 63);
+                    RiftRenderer.submitBox(bb, this.getColor(this.ri) & 16777215 | 838860800, 63);
                     if (this.itemNames.getValBoolean()) {
                         EntityItem i = (EntityItem) entities;
                         String name = i.getItem().getDisplayName() + " x" + i.getItem().stackSize;
@@ -122,8 +120,6 @@ public class BoxESP extends Module {
                         GlStateManager.popMatrix();
                     }
                 }
-
-                RiftRenderer.release();
             });
             break;
 
@@ -139,21 +135,17 @@ public class BoxESP extends Module {
                 double h = entities.boundingBox.maxY - entities.boundingBox.minY;
                 double l = entities.boundingBox.maxZ - entities.boundingBox.minZ;
                 int rgb = this.getColor(this.ri);
-                int r = rgb >> 16 & 255;
-                int g = rgb >> 8 & 255;
-                int b = rgb & 255;
 
-                RiftRenderer.prepare(7);
                 if (this.players.getValBoolean() && entities instanceof EntityPlayer) {
-                    RiftRenderer.drawBoundingBox(x + 0.25D, y, z + 0.25D, w, l, h, this.ws.getValFloat(), r, g, b, 255);
+                    RiftRenderer.submitOutline(x + 0.25D, y, z + 0.25D, w, h, l, this.ws.getValFloat(), rgb | -16777216);
                 }
 
                 if (this.xp.getValBoolean() && entities instanceof EntityExpBottle) {
-                    RiftRenderer.drawBoundingBox(x + 0.125D, y, z + 0.125D, w, l, h, this.ws.getValFloat(), r, g, b, 255);
+                    RiftRenderer.submitOutline(x + 0.125D, y, z + 0.125D, w, h, l, this.ws.getValFloat(), rgb | -16777216);
                 }
 
                 if (this.items.getValBoolean() && entities instanceof EntityItem) {
-                    RiftRenderer.drawBoundingBox(x, y, z, w, l, h, this.ws.getValFloat(), r, g, b, 255);
+                    RiftRenderer.submitOutline(x, y, z, w, h, l, this.ws.getValFloat(), rgb | -16777216);
                     if (this.itemNames.getValBoolean()) {
                         EntityItem i = (EntityItem) entities;
                         String name = i.getItem().getDisplayName() + " x" + i.getItem().stackSize;
@@ -166,8 +158,6 @@ public class BoxESP extends Module {
                         GlStateManager.popMatrix();
                     }
                 }
-
-                RiftRenderer.release();
             });
             break;
 
@@ -184,36 +174,21 @@ public class BoxESP extends Module {
                 double l = entities.boundingBox.maxZ - entities.boundingBox.minZ;
                 AxisAlignedBB bb = new AxisAlignedBB(x, y, z, x + w, y + h, z + l);
                 int rgb = this.getColor(this.ri);
-                int r = rgb >> 16 & 255;
-                int g = rgb >> 8 & 255;
-                int b = rgb & 255;
 
                 if (this.players.getValBoolean() && entities instanceof EntityPlayer) {
-                    RiftRenderer.prepare(7);
-                    RiftRenderer.drawBoundingBox(x, y, z, w, l, h, this.ws.getValFloat(), r, g, b, 255);
-                    RiftRenderer.release();
-                    RiftRenderer.prepare(7);
-                    RiftRenderer.drawboxEntity(bb, this.getColor(this.ri), 50, 63);
-                    RiftRenderer.release();
+                    RiftRenderer.submitOutline(x, y, z, w, h, l, this.ws.getValFloat(), rgb | -16777216);
+                    RiftRenderer.submitBox(bb, this.getColor(this.ri) & 16777215 | 838860800, 63);
                 }
 
                 if (this.xp.getValBoolean() && entities instanceof EntityExpBottle) {
-                    RiftRenderer.prepare(7);
-                    RiftRenderer.drawBoundingBox(x, y, z, w, l, h, this.ws.getValFloat(), r, g, b, 255);
-                    RiftRenderer.release();
-                    RiftRenderer.prepare(7);
-                    RiftRenderer.drawboxEntity(bb, this.getColor(this.ri), 50, 63);
-                    RiftRenderer.release();
+                    RiftRenderer.submitOutline(x, y, z, w, h, l, this.ws.getValFloat(), rgb | -16777216);
+                    RiftRenderer.submitBox(bb, this.getColor(this.ri) & 16777215 | 838860800, 63);
                 }
 
                 if (this.items.getValBoolean() && entities instanceof EntityItem) {
-                    RiftRenderer.prepare(7);
-                    RiftRenderer.drawBoundingBox(x, y + 0.3D, z, w, l, h, this.ws.getValFloat(), r, g, b, 255);
-                    RiftRenderer.release();
+                    RiftRenderer.submitOutline(x, y + 0.3D, z, w, h, l, this.ws.getValFloat(), rgb | -16777216);
                     bb = new AxisAlignedBB(x, y + 0.3D, z, x + w, y + 0.3D + h, z + l);
-                    RiftRenderer.prepare(7);
-                    RiftRenderer.drawboxEntity(bb, this.getColor(this.ri), 50, 63);
-                    RiftRenderer.release();
+                    RiftRenderer.submitBox(bb, this.getColor(this.ri) & 16777215 | 838860800, 63);
                     if (this.itemNames.getValBoolean()) {
                         EntityItem i = (EntityItem) entities;
                         String name = i.getItem().getDisplayName() + " x" + i.getItem().stackSize;
@@ -226,7 +201,6 @@ public class BoxESP extends Module {
                         GlStateManager.popMatrix();
                     }
                 }
-
             });
         }
 
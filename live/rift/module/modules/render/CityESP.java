@@ -1,6 +1,6 @@
 package live.rift.module.modules.render;
 
-import java.awt.Color;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.function.Predicate;
@@ -11,11 +11,13 @@ import live.rift.friends.Friends;
 import live.rift.module.Category;
 import live.rift.module.Module;
 import live.rift.module.modules.combat.AutoCrystal;
+import live.rift.module.modules.hud.GUI;
 import live.rift.setting.Setting;
+import live.rift.util.BlockIndex;
 import live.rift.util.RainbowUtil;
+import live.rift.util.RetainedGeometry;
 import live.rift.util.RiftRenderer;
 import net.minecraft.entity.player.EntityPlayer;
-import net.minecraft.init.Blocks;
 import net.minecraft.util.math.BlockPos;
 
 public class CityESP extends Module {
@@ -27,11 +29,20 @@ public class CityESP extends Module {
     public Setting width = new Setting("Width", this, 1.0D, 0.0D, 2.0D, false);
     private final BlockPos[] surroundOffset = new BlockPos[] { new BlockPos(0, 0, -1), new BlockPos(1, 0, 0), new BlockPos(0, 0, 1), new BlockPos(-1, 0, 0)};
     RainbowUtil rutil = new RainbowUtil(9);
+    private final RetainedGeometry geometry = new RetainedGeometry();
+    private List cities = new ArrayList();
+    private int argb;
+    private float lineWidth;
+    private long version;
 
     public CityESP() {
         super("CityESP", 0, Category.RENDER);
     }
 
+    public void onDisable() {
+        this.geometry.delete();
+    }
+
     public void onWorld(RenderEvent event) {
         byte ri = 0;
 
@@ -42,10 +53,10 @@ public class CityESP extends Module {
 
         if (CityESP.mc.world != null) {
             int rgb = this.getColor(ri);
-            int r = rgb >> 16 & 255;
-            int g = rgb >> 8 & 255;
-            int b = rgb & 255;
-            AutoCrystal aa = (AutoCrystal) RiftMod.fevents.moduleManager.getModule("AutoCrystal");
+            int argb = rgb & 16777215 | (int) this.a.getValDouble() << 24;
+            float lineWidth = this.width.getValFloat();
+            ArrayList cities = new ArrayList();
+            AutoCrystal aa = (AutoCrystal) RiftMod.fevents.moduleManager.getModule(AutoCrystal.class);
             List entities = (List) CityESP.mc.world.playerEntities.stream().filter((entityPlayer) -> {
                 return !Friends.isFriend(entityPlayer.getName());
             }).collect(Collectors.toList());
@@ -60,14 +71,32 @@ public class CityESP extends Module {
                     BlockPos add = ablockpos[j];
                     BlockPos o = (new BlockPos(e.getPositionVector().x, e.getPositionVector().y, e.getPositionVector().z)).add(add.x, add.y, add.z);
 
-                    if (CityESP.mc.world.getBlockState(o).getBlock() == Blocks.OBSIDIAN && (aa.canPlaceCrystal(o.north(1).down()) || aa.canPlaceCrystal(o.east(1).down()) || aa.canPlaceCrystal(o.south(1).down()) || aa.canPlaceCrystal(o.west(1).down()))) {
-                        RiftRenderer.prepare(7);
-                        RiftRenderer.drawBoundingBoxBlockPos(o, this.width.getValFloat(), r, g, b, (int) this.a.getValDouble());
-                        RiftRenderer.release();
+                    if (BlockIndex.Get().is(o, BlockIndex.OBSIDIAN) && (aa.canPlaceCrystal(o.north(1).down()) || aa.canPlaceCrystal(o.east(1).down()) || aa.canPlaceCrystal(o.south(1).down()) || aa.canPlaceCrystal(o.west(1).down()))) {
+                        cities.add(o);
                     }
                 }
             }
 
+            if (!cities.equals(this.cities) || argb != this.argb || lineWidth != this.lineWidth) {
+                this.cities = cities;
+                this.argb = argb;
+                this.lineWidth = lineWidth;
+                ++this.version;
+            }
+
+            if (!this.geometry.isCurrent(this.version)) {
+                this.geometry.begin(CityESP.mc.player.getPosition());
+
+                for (int k = 0; k < cities.size(); ++k) {
+                    BlockPos city = (BlockPos) cities.get(k);
+
+                    this.geometry.outline((double) city.x, (double) city.y, (double) city.z, 1.0D, 1.0D, 1.0D, lineWidth, argb);
+                }
+
+                this.geometry.upload(this.version);
+            }
+
+            RiftRenderer.submitRetained(this.geometry);
         }
     }
 
@@ -75,10 +104,10 @@ public class CityESP extends Module {
         boolean color = true;
         int color1;
 
-        if (RiftMod.setmgr.getSettingByMod("Rainbow", RiftMod.fevents.moduleManager.getModule("Gui")).getValBoolean()) {
+        if (GUI.INSTANCE.rainbow.getValBoolean()) {
             color1 = this.rutil.GetRainbowColorAt(index);
         } else {
-            color1 = (new Color((int) RiftMod.setmgr.getSettingByNameMod("Red", "Gui").getValDouble(), (int) RiftMod.setmgr.getSettingByNameMod("Green", "Gui").getValDouble(), (int) RiftMod.setmgr.getSettingByNameMod("Blue", "Gui").getValDouble())).getRGB();
+            color1 = GUI.INSTANCE.getRGB();
         }
 
         return color1;
@@ -4,20 +4,19 @@ import java.awt.Color;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
 import live.rift.event.events.RenderEvent;
 import live.rift.module.Category;
 import live.rift.module.Module;
-import live.rift.module.modules.combat.AutoCrystal;
 import live.rift.setting.Setting;
+import live.rift.util.HoleIndex;
+import live.rift.util.RetainedGeometry;
 import live.rift.util.RiftRenderer;
-import net.minecraft.block.Block;
-import net.minecraft.init.Blocks;
 import net.minecraft.util.math.BlockPos;
 
 public class HoleESP extends Module {
 
-    private final BlockPos[] surroundOffset = new BlockPos[] { new BlockPos(0, -1, 0), new BlockPos(0, 0, -1), new BlockPos(1, 0, 0), new BlockPos(0, 0, 1), new BlockPos(-1, 0, 0)};
     public Setting renderDist = new Setting("Distance", this, 10.0D, 1.0D, 20.0D, false);
     public Setting a0 = new Setting("Opacity", this, 75.0D, 5.0D, 255.0D, false);
     public Setting r1 = new Setting("Obi Red", this, 255.0D, 5.0D, 255.0D, true);
@@ -29,7 +28,15 @@ public class HoleESP extends Module {
     public Setting mode;
     public Setting width = new Setting("Width", this, 1.0D, 1.0D, 10.0D, false);
     ArrayList options = new ArrayList();
+    private final Setting[] watched = new Setting[] { this.a0, this.width, this.r1, this.g1, this.b1, this.r2, this.g2, this.b2};
+    private final double[] watchedValues = new double[this.watched.length];
     private ConcurrentHashMap safeHoles;
+    private final RetainedGeometry geometry = new RetainedGeometry();
+    private long indexVersion;
+    private int indexRange;
+    private BlockPos indexPos;
+    private long version;
+    private String watchedMode;
 
     public static BlockPos getPlayerPos() {
         return new BlockPos(Math.floor(HoleESP.mc.player.posX), Math.floor(HoleESP.mc.player.posY), Math.floor(HoleESP.mc.player.posZ));
@@ -45,97 +52,95 @@ public class HoleESP extends Module {
         this.mode = new Setting("Mode", this, "Full", this.options);
     }
 
+    public void onDisable() {
+        this.geometry.delete();
+    }
+
     public void onUpdate() {
-        if (this.safeHoles == null) {
-            this.safeHoles = new ConcurrentHashMap();
-        } else {
-            this.safeHoles.clear();
+        HoleIndex index = HoleIndex.Get();
+        int range = (int) Math.ceil(this.renderDist.getValDouble());
+        BlockPos player = getPlayerPos();
+
+        if (this.safeHoles == null || index.getVersion() != this.indexVersion || range != this.indexRange || !player.equals(this.indexPos)) {
+            ConcurrentHashMap holes = new ConcurrentHashMap();
+            List found = index.query(player, (float) range, HoleIndex.HOLE | HoleIndex.OPEN);
+
+            for (int i = 0; i < found.size(); ++i) {
+                BlockPos pos = (BlockPos) found.get(i);
+
+                holes.put(pos, Boolean.valueOf((index.getKind(pos) & HoleIndex.BEDROCK) != 0));
+            }
+
+            this.indexVersion = index.getVersion();
+            this.indexRange = range;
+            this.indexPos = player;
+            if (!holes.equals(this.safeHoles)) {
+                this.safeHoles = holes;
+                ++this.version;
+            }
+
         }
+    }
 
-        int range = (int) Math.ceil(this.renderDist.getValDouble());
-        List blockPosList = AutoCrystal.getSphere(getPlayerPos(), (float) range, range, false, true, 0);
-        Iterator iterator = blockPosList.iterator();
-
-        while (iterator.hasNext()) {
-            BlockPos pos = (BlockPos) iterator.next();
-
-            if (HoleESP.mc.world.getBlockState(pos).getBlock().equals(Blocks.AIR) && HoleESP.mc.world.getBlockState(pos.add(0, 1, 0)).getBlock().equals(Blocks.AIR) && HoleESP.mc.world.getBlockState(pos.add(0, 2, 0)).getBlock().equals(Blocks.AIR)) {
-                boolean isSafe = true;
-                boolean isBedrock = true;
-                BlockPos[] ablockpos = this.surroundOffset;
-                int i = ablockpos.length;
-                int j = 0;
-
-                while (true) {
-                    if (j < i) {
-                        BlockPos offset = ablockpos[j];
-                        Block block = HoleESP.mc.world.getBlockState(pos.add(offset)).getBlock();
-
-                        if (block != Blocks.BEDROCK) {
-                            isBedrock = false;
-                        }
-
-                        if (block == Blocks.BEDROCK || block == Blocks.OBSIDIAN || block == Blocks.ENDER_CHEST || block == Blocks.ANVIL) {
-                            ++j;
-                            continue;
-                        }
-
-                        isSafe = false;
-                    }
+    public void onWorld(RenderEvent event) {
+        if (HoleESP.mc.player != null && this.safeHoles != null) {
+            if (this.settingsChanged()) {
+                ++this.version;
+            }
 
-                    if (isSafe) {
-                        this.safeHoles.put(pos, Boolean.valueOf(isBedrock));
+            if (!this.geometry.isCurrent(this.version)) {
+                this.geometry.begin(getPlayerPos());
+                Iterator iterator = this.safeHoles.entrySet().iterator();
+
+                while (iterator.hasNext()) {
+                    Entry entry = (Entry) iterator.next();
+                    BlockPos blockPos = (BlockPos) entry.getKey();
+
+                    if (((Boolean) entry.getValue()).booleanValue()) {
+                        this.drawBox(blockPos, (int) this.r2.getValDouble(), (int) this.g2.getValDouble(), (int) this.b2.getValDouble());
+                    } else {
+                        this.drawBox(blockPos, (int) this.r1.getValDouble(), (int) this.g1.getValDouble(), (int) this.b1.getValDouble());
                     }
-                    break;
                 }
+
+                this.geometry.upload(this.version);
             }
-        }
 
+            RiftRenderer.submitRetained(this.geometry);
+        }
     }
 
-    public void onWorld(RenderEvent event) {
-        if (HoleESP.mc.player != null && this.safeHoles != null) {
-            if (!this.safeHoles.isEmpty()) {
-                this.safeHoles.forEach(accept<invokedynamic>(this));
+    private boolean settingsChanged() {
+        boolean changed = !this.mode.getValString().equals(this.watchedMode);
+
+        this.watchedMode = this.mode.getValString();
+
+        for (int i = 0; i < this.watched.length; ++i) {
+            double value = this.watched[i].getValDouble();
+
+            if (value != this.watchedValues[i]) {
+                this.watchedValues[i] = value;
+                changed = true;
             }
         }
+
+        return changed;
     }
 
     private void drawBox(BlockPos blockPos, int r, int g, int b) {
         Color color = new Color(r, g, b, (int) this.a0.getValDouble());
 
         if (this.mode.getValString().equals("Down")) {
-            RiftRenderer.prepare(7);
-            RiftRenderer.drawBox(blockPos, color.getRGB(), 1);
-            RiftRenderer.release();
+            this.geometry.box((double) blockPos.x, (double) blockPos.y, (double) blockPos.z, 1.0D, 1.0D, 1.0D, color.getRGB(), 1);
         } else if (this.mode.getValString().equals("Full")) {
-            RiftRenderer.prepare(7);
-            RiftRenderer.drawBox(blockPos, color.getRGB(), 63);
-            RiftRenderer.release();
+            this.geometry.box((double) blockPos.x, (double) blockPos.y, (double) blockPos.z, 1.0D, 1.0D, 1.0D, color.getRGB(), 63);
         } else if (this.mode.getValString().equals("Outline")) {
-            RiftRenderer.prepare(7);
-            RiftRenderer.drawBoundingBoxBottomBlockPos(blockPos, (float) this.width.getValDouble(), r, g, b, (int) this.a0.getValDouble());
-            RiftRenderer.release();
+            this.geometry.bottomOutline(blockPos, (float) this.width.getValDouble(), color.getRGB());
         } else if (this.mode.getValString().equals("Half")) {
-            RiftRenderer.prepare(7);
-            RiftRenderer.drawHalfBox(blockPos, r, g, b, (int) this.a0.getValDouble(), 63);
-            RiftRenderer.release();
+            this.geometry.box((double) blockPos.x, (double) blockPos.y, (double) blockPos.z, 1.0D, 0.5D, 1.0D, color.getRGB(), 63);
         } else if (this.mode.getValString().equals("Flat")) {
-            RiftRenderer.prepare(7);
-            RiftRenderer.drawOTwoBox(blockPos, r, g, b, (int) this.a0.getValDouble(), 63);
-            RiftRenderer.release();
-            RiftRenderer.prepare(7);
-            RiftRenderer.drawOTwoBoundingBoxBlockPos(blockPos, (float) this.width.getValDouble(), r, g, b, 255);
-            RiftRenderer.release();
-        }
-
-    }
-
-    private void lambda$onWorld$0(BlockPos blockPos, Boolean isBedrock) {
-        if (isBedrock.booleanValue()) {
-            this.drawBox(blockPos, (int) this.r2.getValDouble(), (int) this.g2.getValDouble(), (int) this.b2.getValDouble());
-        } else {
-            this.drawBox(blockPos, (int) this.r1.getValDouble(), (int) this.g1.getValDouble(), (int) this.b1.getValDouble());
+            this.geometry.box((double) blockPos.x, (double) blockPos.y, (double) blockPos.z, 1.0D, 0.1D, 1.0D, color.getRGB(), 63);
+            this.geometry.outline((double) blockPos.x, (double) blockPos.y, (double) blockPos.z, 1.0D, 0.1D, 1.0D, (float) this.width.getValDouble(), color.getRGB() | -16777216);
         }
 
     }
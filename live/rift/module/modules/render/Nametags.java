@@ -9,6 +9,8 @@ import live.rift.friends.Friends;
 import live.rift.gui.util.GuiUtil;
 import live.rift.module.Category;
 import live.rift.module.Module;
+import live.rift.module.modules.hud.GUI;
+import live.rift.module.modules.misc.Freecam;
 import live.rift.setting.Setting;
 import live.rift.util.MathUtil;
 import live.rift.util.RainbowUtil;
@@ -64,7 +66,7 @@ public class Nametags extends Module {
                 double y = this.interpolate(entity.lastTickPosY, entity.posY, e.getPartialTicks()) - Nametags.mc.getRenderManager().renderPosY;
                 double z = this.interpolate(entity.lastTickPosZ, entity.posZ, e.getPartialTicks()) - Nametags.mc.getRenderManager().renderPosZ;
 
-                if (!entity.getName().equalsIgnoreCase(Nametags.mc.player.getName()) || RiftMod.fevents.moduleManager.getModule("Freecam").isEnabled()) {
+                if (!entity.getName().equalsIgnoreCase(Nametags.mc.player.getName()) || RiftMod.fevents.moduleManager.getModule(Freecam.class).isEnabled()) {
                     this.renderNameTag((EntityPlayer) entity, x, y, z, e.getPartialTicks());
                 }
             }
@@ -83,7 +85,8 @@ public class Nametags extends Module {
         camera.posY = this.interpolate(camera.prevPosY, camera.posY, delta);
         camera.posZ = this.interpolate(camera.prevPosZ, camera.posZ, delta);
         double distance = camera.getDistance(x + Nametags.mc.getRenderManager().viewerPosX, y + Nametags.mc.getRenderManager().viewerPosY, z + Nametags.mc.getRenderManager().viewerPosZ);
-        int width = Nametags.mc.fontRenderer.getStringWidth(this.getDisplayName(player)) / 2;
+        String displayName = this.getDisplayName(player);
+        int width = Nametags.mc.fontRenderer.getStringWidth(displayName) / 2;
         double scale = 0.0018D + this.scaling.getValDouble() * 0.001D * distance;
 
         if (distance <= 8.0D) {
@@ -109,7 +112,7 @@ public class Nametags extends Module {
         drawBorderedRect((double) (-width - 2), (double) (-(Nametags.mc.fontRenderer.FONT_HEIGHT + 1)), (double) ((float) width + 2.0F), 1.5D, 1.600000023841858D, 1996488704, this.colorOutline.getValBoolean() ? this.getColor(this.ri) : 1426063360);
         GlStateManager.glNormal3f(0.0F, 1.0F, 0.0F);
         GL11.glColor4f(1.0F, 10.0F, 1.0F, 1.0F);
-        Nametags.mc.fontRenderer.drawStringWithShadow(this.getDisplayName(player), (float) (-width), (float) (-(Nametags.mc.fontRenderer.FONT_HEIGHT - 1)), this.getDisplayColour(player));
+        Nametags.mc.fontRenderer.drawStringWithShadow(displayName, (float) (-width), (float) (-(Nametags.mc.fontRenderer.FONT_HEIGHT - 1)), this.getDisplayColour(player));
         GlStateManager.glNormal3f(0.0F, 0.0F, 0.0F);
         if (this.armor.getValBoolean() || this.durability.getValBoolean() && !this.armor.getValBoolean()) {
             GlStateManager.pushMatrix();
@@ -443,10 +446,10 @@ public class Nametags extends Module {
         boolean color = true;
         int color1;
 
-        if (RiftMod.setmgr.getSettingByMod("Rainbow", RiftMod.fevents.moduleManager.getModule("Gui")).getValBoolean()) {
+        if (GUI.INSTANCE.rainbow.getValBoolean()) {
             color1 = this.rutil.GetRainbowColorAt(index);
         } else {
-            color1 = (new Color((int) RiftMod.setmgr.getSettingByNameMod("Red", "Gui").getValDouble(), (int) RiftMod.setmgr.getSettingByNameMod("Green", "Gui").getValDouble(), (int) RiftMod.setmgr.getSettingByNameMod("Blue", "Gui").getValDouble())).getRGB();
+            color1 = GUI.INSTANCE.getRGB();
         }
 
         return color1;
@@ -15,6 +15,7 @@ public class ViewModelChanger extends Module {
 
     public ViewModelChanger() {
         super("ViewModelChanger", 0, Category.RENDER);
+        this.setTickInterval(Module.RENDER_ONLY);
         ViewModelChanger.i = this;
     }
 
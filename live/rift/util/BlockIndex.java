@@ -0,0 +1,272 @@
+package live.rift.util;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import live.rift.RiftMod;
+import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.client.Minecraft;
+import net.minecraft.init.Blocks;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+
+public class BlockIndex {
+
+    public static final int AIR = 0;
+    public static final int OBSIDIAN = 1;
+    public static final int BEDROCK = 2;
+    public static final int ENDER_CHEST = 3;
+    public static final int ANVIL = 4;
+    public static final BlockIndex.Section EMPTY = new BlockIndex.Section(true);
+    static Minecraft mc = Minecraft.getMinecraft();
+    private final Map columns = new HashMap();
+    private World world;
+    private final BlockUpdateListener worldListener = new BlockUpdateListener() {
+        public void onBlockUpdate(BlockPos blockpos, IBlockState iblockstate) {
+            BlockIndex.this.patch(blockpos, iblockstate.getBlock());
+        }
+
+        public void onRangeUpdate(int x1, int y1, int z1, int x2, int y2, int z2) {
+            BlockIndex.this.invalidate(x1, y1, z1, x2, y2, z2);
+        }
+    };
+
+    public static BlockIndex Get() {
+        return RiftMod.GetBlockIndex();
+    }
+
+    public static int kindOf(Block block) {
+        return block == Blocks.AIR ? BlockIndex.AIR : (block == Blocks.OBSIDIAN ? BlockIndex.OBSIDIAN : (block == Blocks.BEDROCK ? BlockIndex.BEDROCK : (block == Blocks.ENDER_CHEST ? BlockIndex.ENDER_CHEST : (block == Blocks.ANVIL ? BlockIndex.ANVIL : -1))));
+    }
+
+    public boolean is(BlockPos pos, int kind) {
+        return this.section(pos.x >> 4, pos.y >> 4, pos.z >> 4).get(kind, BlockIndex.cell(pos));
+    }
+
+    public boolean isAir(BlockPos pos) {
+        return this.is(pos, BlockIndex.AIR);
+    }
+
+    public boolean isResistant(BlockPos pos) {
+        BlockIndex.Section section = this.section(pos.x >> 4, pos.y >> 4, pos.z >> 4);
+        int cell = BlockIndex.cell(pos);
+
+        return (section.resistant(cell >> 6) & 1L << (cell & 63)) != 0L;
+    }
+
+    public BlockIndex.Section section(int sx, int sy, int sz) {
+        if (this.world != BlockIndex.mc.world) {
+            this.world = BlockIndex.mc.world;
+            this.columns.clear();
+            if (this.world != null) {
+                this.world.addEventListener(this.worldListener);
+            }
+        }
+
+        if (this.world != null && sy >= 0 && sy < 16) {
+            Chunk chunk = this.world.getChunkProvider().getLoadedChunk(sx, sz);
+
+            if (chunk == null) {
+                return BlockIndex.EMPTY;
+            } else {
+                Long key = Long.valueOf(ChunkPos.asLong(sx, sz));
+                BlockIndex.Section[] column = (BlockIndex.Section[]) this.columns.get(key);
+
+                if (column == null) {
+                    column = new BlockIndex.Section[16];
+                    this.columns.put(key, column);
+                }
+
+                if (column[sy] == null) {
+                    column[sy] = this.build(chunk.getBlockStorageArray()[sy]);
+                }
+
+                return column[sy];
+            }
+        } else {
+            return BlockIndex.EMPTY;
+        }
+    }
+
+    private BlockIndex.Section build(ExtendedBlockStorage storage) {
+        if (storage != Chunk.NULL_BLOCK_STORAGE && !storage.isEmpty()) {
+            BlockIndex.Section section = new BlockIndex.Section(false);
+
+            for (int cell = 0; cell < 4096; ++cell) {
+                int kind = BlockIndex.kindOf(storage.get(cell & 15, cell >> 8, cell >> 4 & 15).getBlock());
+
+                if (kind >= 0) {
+                    section.bits[kind][cell >> 6] |= 1L << (cell & 63);
+                }
+            }
+
+            section.updateEmpty();
+            return section;
+        } else {
+            return new BlockIndex.Section(true);
+        }
+    }
+
+    private void patch(BlockPos pos, Block block) {
+        if (this.world == BlockIndex.mc.world && pos.y >= 0 && pos.y < 256) {
+            BlockIndex.Section[] column = (BlockIndex.Section[]) this.columns.get(Long.valueOf(ChunkPos.asLong(pos.x >> 4, pos.z >> 4)));
+
+            if (column != null && column[pos.y >> 4] != null) {
+                column[pos.y >> 4].set(BlockIndex.cell(pos), BlockIndex.kindOf(block));
+            }
+
+        }
+    }
+
+    private void invalidate(int x1, int y1, int z1, int x2, int y2, int z2) {
+        if (this.world == BlockIndex.mc.world) {
+            for (int cx = x1 >> 4; cx <= x2 >> 4; ++cx) {
+                for (int cz = z1 >> 4; cz <= z2 >> 4; ++cz) {
+                    Long key = Long.valueOf(ChunkPos.asLong(cx, cz));
+                    BlockIndex.Section[] column = (BlockIndex.Section[]) this.columns.get(key);
+
+                    if (column != null) {
+                        if (this.world.getChunkProvider().getLoadedChunk(cx, cz) == null) {
+                            this.columns.remove(key);
+                        } else {
+                            for (int sy = Math.max(0, y1 >> 4); sy <= Math.min(15, y2 >> 4); ++sy) {
+                                column[sy] = null;
+                            }
+                        }
+                    }
+                }
+            }
+
+        }
+    }
+
+    private static int cell(BlockPos pos) {
+        return (pos.y & 15) << 8 | (pos.z & 15) << 4 | pos.x & 15;
+    }
+
+    public static class Window {
+
+        private BlockIndex.Section[] sections = new BlockIndex.Section[0];
+        private int x;
+        private int y;
+        private int z;
+        private int width;
+        private int height;
+        private int depth;
+
+        public void load(BlockIndex blocks, int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+            this.x = minX >> 4;
+            this.y = minY >> 4;
+            this.z = minZ >> 4;
+            this.width = (maxX >> 4) - this.x + 1;
+            this.height = (maxY >> 4) - this.y + 1;
+            this.depth = (maxZ >> 4) - this.z + 1;
+            if (this.sections.length < this.width * this.height * this.depth) {
+                this.sections = new BlockIndex.Section[this.width * this.height * this.depth];
+            }
+
+            for (int sy = 0; sy < this.height; ++sy) {
+                for (int sz = 0; sz < this.depth; ++sz) {
+                    for (int sx = 0; sx < this.width; ++sx) {
+                        this.sections[(sy * this.depth + sz) * this.width + sx] = blocks.section(this.x + sx, this.y + sy, this.z + sz);
+                    }
+                }
+            }
+
+        }
+
+        public boolean is(BlockPos pos, int kinds) {
+            int sx = (pos.x >> 4) - this.x;
+            int sy = (pos.y >> 4) - this.y;
+            int sz = (pos.z >> 4) - this.z;
+
+            if (sx >= 0 && sy >= 0 && sz >= 0 && sx < this.width && sy < this.height && sz < this.depth) {
+                BlockIndex.Section section = this.sections[(sy * this.depth + sz) * this.width + sx];
+
+                if (section != BlockIndex.EMPTY && (!section.isEmpty() || (kinds & 1 << BlockIndex.AIR) != 0)) {
+                    int cell = BlockIndex.cell(pos);
+
+                    return (section.of(kinds, cell >> 6) & 1L << (cell & 63)) != 0L;
+                } else {
+                    return false;
+                }
+            } else {
+                return false;
+            }
+        }
+    }
+
+    public static class Section {
+
+        private final long[][] bits = new long[5][64];
+        private boolean empty;
+
+        private Section(boolean empty) {
+            this.empty = empty;
+            if (empty) {
+                Arrays.fill(this.bits[BlockIndex.AIR], -1L);
+            }
+
+        }
+
+        public boolean isEmpty() {
+            return this.empty;
+        }
+
+        public boolean get(int kind, int cell) {
+            return (this.bits[kind][cell >> 6] & 1L << (cell & 63)) != 0L;
+        }
+
+        public long air(int word) {
+            return this.bits[BlockIndex.AIR][word];
+        }
+
+        public long bedrock(int word) {
+            return this.bits[BlockIndex.BEDROCK][word];
+        }
+
+        public long of(int kinds, int word) {
+            long bits = 0L;
+
+            for (int i = 0; i < this.bits.length; ++i) {
+                if ((kinds & 1 << i) != 0) {
+                    bits |= this.bits[i][word];
+                }
+            }
+
+            return bits;
+        }
+
+        public long resistant(int word) {
+            return this.bits[BlockIndex.OBSIDIAN][word] | this.bits[BlockIndex.BEDROCK][word] | this.bits[BlockIndex.ENDER_CHEST][word] | this.bits[BlockIndex.ANVIL][word];
+        }
+
+        private void set(int cell, int kind) {
+            long bit = 1L << (cell & 63);
+
+            for (int i = 0; i < this.bits.length; ++i) {
+                this.bits[i][cell >> 6] &= ~bit;
+            }
+
+            if (kind >= 0) {
+                this.bits[kind][cell >> 6] |= bit;
+            }
+
+            this.updateEmpty();
+        }
+
+        private void updateEmpty() {
+            long air = -1L;
+
+            for (int i = 0; i < 64; ++i) {
+                air &= this.bits[BlockIndex.AIR][i];
+            }
+
+            this.empty = air == -1L;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package live.rift.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.BlockPos.MutableBlockPos;
+
+public class BlockSphere {
+
+    private static final Map TABLES = new ConcurrentHashMap();
+    private final float radius;
+    private final int height;
+    private final boolean hollow;
+    private final boolean sphere;
+    private final int[] cells;
+
+    private BlockSphere(float radius, int height, boolean hollow, boolean sphere) {
+        this.radius = radius;
+        this.height = height;
+        this.hollow = hollow;
+        this.sphere = sphere;
+        ArrayList list = new ArrayList();
+        int r = (int) radius;
+
+        for (int x = -r; (float) x <= radius; ++x) {
+            for (int z = -r; (float) z <= radius; ++z) {
+                for (int y = sphere ? -r : 0; (float) y < (sphere ? radius : (float) height); ++y) {
+                    if (this.accepts(x, y, z)) {
+                        list.add(Integer.valueOf(x + 512 << 20 | y + 512 << 10 | z + 512));
+                    }
+                }
+            }
+        }
+
+        list.sort(Comparator.comparingInt((cell) -> {
+            return BlockSphere.cellDistanceSq(((Integer) cell).intValue());
+        }));
+        this.cells = new int[list.size()];
+
+        for (int i = 0; i < this.cells.length; ++i) {
+            this.cells[i] = ((Integer) list.get(i)).intValue();
+        }
+
+    }
+
+    public static BlockSphere of(float radius) {
+        return of(radius, 0, false, true);
+    }
+
+    public static BlockSphere of(float radius, int height, boolean hollow, boolean sphere) {
+        Long key = Long.valueOf((long) Float.floatToIntBits(radius) << 32 | (long) (sphere ? 0 : height) << 2 & 4294967292L | (long) (hollow ? 2 : 0) | (long) (sphere ? 1 : 0));
+        BlockSphere table = (BlockSphere) BlockSphere.TABLES.get(key);
+
+        if (table == null) {
+            table = new BlockSphere(radius, height, hollow, sphere);
+            BlockSphere.TABLES.put(key, table);
+        }
+
+        return table;
+    }
+
+    public int size() {
+        return this.cells.length;
+    }
+
+    public int indexOf(int distanceSq) {
+        int low = 0;
+        int high = this.cells.length;
+
+        while (low < high) {
+            int mid = low + high >>> 1;
+
+            if (BlockSphere.cellDistanceSq(this.cells[mid]) < distanceSq) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+
+    public MutableBlockPos get(int i, BlockPos center, MutableBlockPos pos) {
+        int cell = this.cells[i];
+
+        return pos.setPos(center.x + (cell >> 20) - 512, center.y + (cell >> 10 & 1023) - 512, center.z + (cell & 1023) - 512);
+    }
+
+    public void load(BlockPos center, BlockIndex.Window window) {
+        int r = (int) this.radius;
+
+        window.load(BlockIndex.Get(), center.x - r, center.y + (this.sphere ? -r : 0), center.z - r, center.x + r, center.y + (this.sphere ? r : this.height - 1), center.z + r);
+    }
+
+    public int next(int i, BlockPos center, BlockIndex.Window window, int kinds, MutableBlockPos pos) {
+        while (i < this.cells.length) {
+            if (window.is(this.get(i, center, pos), kinds)) {
+                return i;
+            }
+
+            ++i;
+        }
+
+        return i;
+    }
+
+    public boolean contains(BlockPos center, BlockPos pos) {
+        int y = pos.y - center.y;
+
+        return (this.sphere ? (float) y >= (float) (-((int) this.radius)) && (float) y < this.radius : y >= 0 && y < this.height) && this.accepts(pos.x - center.x, y, pos.z - center.z);
+    }
+
+    private static int cellDistanceSq(int cell) {
+        int x = (cell >> 20) - 512;
+        int y = (cell >> 10 & 1023) - 512;
+        int z = (cell & 1023) - 512;
+
+        return x * x + y * y + z * z;
+    }
+
+    private boolean accepts(int x, int y, int z) {
+        double dist = (double) (x * x + z * z + (this.sphere ? y * y : 0));
+
+        return dist < (double) (this.radius * this.radius) && (!this.hollow || dist >= (double) ((this.radius - 1.0F) * (this.radius - 1.0F)));
+    }
+}
@@ -0,0 +1,45 @@
+package live.rift.util;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.util.SoundCategory;
+import net.minecraft.util.SoundEvent;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IWorldEventListener;
+import net.minecraft.world.World;
+
+public abstract class BlockUpdateListener implements IWorldEventListener {
+
+    public abstract void onBlockUpdate(BlockPos blockpos, IBlockState iblockstate);
+
+    public abstract void onRangeUpdate(int x1, int y1, int z1, int x2, int y2, int z2);
+
+    public void notifyBlockUpdate(World world, BlockPos blockpos, IBlockState oldState, IBlockState newState, int flags) {
+        this.onBlockUpdate(blockpos, newState);
+    }
+
+    public void notifyLightSet(BlockPos blockpos) {}
+
+    public void markBlockRangeForRenderUpdate(int x1, int y1, int z1, int x2, int y2, int z2) {
+        this.onRangeUpdate(x1, y1, z1, x2, y2, z2);
+    }
+
+    public void playSoundToAllNearExcept(EntityPlayer player, SoundEvent sound, SoundCategory category, double x, double y, double z, float volume, float pitch) {}
+
+    public void playRecord(SoundEvent sound, BlockPos blockpos) {}
+
+    public void spawnParticle(int particleID, boolean ignoreRange, double x, double y, double z, double xSpeed, double ySpeed, double zSpeed, int... parameters) {}
+
+    public void spawnParticle(int id, boolean ignoreRange, boolean minimiseParticleLevel, double x, double y, double z, double xSpeed, double ySpeed, double zSpeed, int... parameters) {}
+
+    public void onEntityAdded(Entity entity) {}
+
+    public void onEntityRemoved(Entity entity) {}
+
+    public void broadcastSound(int soundID, BlockPos blockpos, int data) {}
+
+    public void playEvent(EntityPlayer player, int type, BlockPos blockpos, int data) {}
+
+    public void sendBlockBreakProgress(int breakerId, BlockPos blockpos, int progress) {}
+}
@@ -1,11 +1,8 @@
 package live.rift.util;
 
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
-import java.util.stream.Collectors;
 import live.rift.friends.Friends;
 import live.rift.module.Module;
 import net.minecraft.block.Block;
@@ -31,7 +28,6 @@ import net.minecraft.network.play.client.CPacketPlayer.Rotation;
 import net.minecraft.util.EnumActionResult;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.EnumHand;
-import net.minecraft.util.NonNullList;
 import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.MathHelper;
@@ -88,29 +84,6 @@ public class BlockUtil {
         return slot;
     }
 
-    public static List getSphere(BlockPos loc, float r, int h, boolean hollow, boolean sphere, int plus_y) {
-        ArrayList circleblocks = new ArrayList();
-        int cx = loc.getX();
-        int cy = loc.getY();
-        int cz = loc.getZ();
-
-        for (int x = cx - (int) r; (float) x <= (float) cx + r; ++x) {
-            for (int z = cz - (int) r; (float) z <= (float) cz + r; ++z) {
-                for (int y = sphere ? cy - (int) r : cy; (float) y < (sphere ? (float) cy + r : (float) (cy + h)); ++y) {
-                    double dist = (double) ((cx - x) * (cx - x) + (cz - z) * (cz - z) + (sphere ? (cy - y) * (cy - y) : 0));
-
-                    if (dist < (double) (r * r) && (!hollow || dist >= (double) ((r - 1.0F) * (r - 1.0F)))) {
-                        BlockPos l = new BlockPos(x, y + plus_y, z);
-
-                        circleblocks.add(l);
-                    }
-                }
-            }
-        }
-
-        return circleblocks;
-    }
-
     public static void findClosestTarget() {
         List playerList = BlockUtil.mc.world.playerEntities;
         EntityPlayer closestTarget = null;
@@ -452,10 +425,7 @@ public class BlockUtil {
     }
 
     public boolean isApplicable(BlockPos blockPos, float range) {
-        NonNullList positions = NonNullList.create();
-
-        positions.addAll((Collection) getSphere(getPlayerPos(), range, (int) range, false, true, 0).stream().collect(Collectors.toList()));
-        return positions.contains(blockPos);
+        return BlockSphere.of(range).contains(getPlayerPos(), blockPos);
     }
 
     public static enum ValidResult {
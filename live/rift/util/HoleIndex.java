@@ -0,0 +1,263 @@
+package live.rift.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import live.rift.RiftMod;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.client.Minecraft;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+
+public class HoleIndex {
+
+    public static final int HOLE = 1;
+    public static final int BEDROCK = 2;
+    public static final int OPEN = 4;
+    private static final HoleIndex.Section NONE = new HoleIndex.Section((byte[]) null, new int[0]);
+    static Minecraft mc = Minecraft.getMinecraft();
+    private final Map columns = new HashMap();
+    private World world;
+    private long version;
+    private final BlockUpdateListener worldListener = new BlockUpdateListener() {
+        public void onBlockUpdate(BlockPos blockpos, IBlockState iblockstate) {
+            HoleIndex.this.invalidate(blockpos);
+        }
+
+        public void onRangeUpdate(int x1, int y1, int z1, int x2, int y2, int z2) {
+            HoleIndex.this.invalidate(x1, y1, z1, x2, y2, z2);
+        }
+    };
+
+    public static HoleIndex Get() {
+        return RiftMod.GetHoleIndex();
+    }
+
+    public long getVersion() {
+        this.validate();
+        return this.version;
+    }
+
+    public int getKind(BlockPos pos) {
+        if (!this.validate() || pos.y < 0 || pos.y > 255) {
+            return 0;
+        } else {
+            HoleIndex.Section section = this.section(pos.x >> 4, pos.y >> 4, pos.z >> 4);
+
+            return section == null || section.flags == null ? 0 : section.flags[(pos.y & 15) << 8 | (pos.z & 15) << 4 | pos.x & 15];
+        }
+    }
+
+    public boolean isHole(BlockPos pos) {
+        return (this.getKind(pos) & HoleIndex.HOLE) != 0;
+    }
+
+    public List query(BlockPos center, float radius, int mask) {
+        ArrayList holes = new ArrayList();
+
+        if (!this.validate()) {
+            return holes;
+        } else {
+            int r = (int) radius;
+            int minY = Math.max(0, center.y - r) >> 4;
+            int maxY = Math.min(255, center.y + r) >> 4;
+
+            for (int sx = center.x - r >> 4; sx <= center.x + r >> 4; ++sx) {
+                for (int sz = center.z - r >> 4; sz <= center.z + r >> 4; ++sz) {
+                    for (int sy = minY; sy <= maxY; ++sy) {
+                        HoleIndex.Section section = this.section(sx, sy, sz);
+
+                        if (section == null) {
+                            break;
+                        }
+
+                        for (int i = 0; i < section.holes.length; ++i) {
+                            int cell = section.holes[i];
+
+                            if ((section.flags[cell] & mask) == mask) {
+                                int x = (sx << 4) + (cell & 15);
+                                int y = (sy << 4) + (cell >> 8);
+                                int z = (sz << 4) + (cell >> 4 & 15);
+                                int dx = x - center.x;
+                                int dy = y - center.y;
+                                int dz = z - center.z;
+
+                                if ((double) (dx * dx + dy * dy + dz * dz) < (double) (radius * radius)) {
+                                    holes.add(new BlockPos(x, y, z));
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+
+            holes.sort(Comparator.comparingDouble((pos) -> {
+                return ((BlockPos) pos).distanceSq(center);
+            }));
+            return holes;
+        }
+    }
+
+    private boolean validate() {
+        if (this.world != HoleIndex.mc.world) {
+            this.world = HoleIndex.mc.world;
+            this.columns.clear();
+            ++this.version;
+            if (this.world != null) {
+                this.world.addEventListener(this.worldListener);
+            }
+        }
+
+        return this.world != null;
+    }
+
+    private HoleIndex.Section section(int sx, int sy, int sz) {
+        if (this.world.getChunkProvider().getLoadedChunk(sx, sz) == null) {
+            return null;
+        } else {
+            Long key = Long.valueOf(ChunkPos.asLong(sx, sz));
+            HoleIndex.Section[] column = (HoleIndex.Section[]) this.columns.get(key);
+
+            if (column == null) {
+                column = new HoleIndex.Section[16];
+                this.columns.put(key, column);
+            }
+
+            if (column[sy] == null) {
+                column[sy] = this.scan(sx, sy, sz);
+            }
+
+            return column[sy];
+        }
+    }
+
+    private HoleIndex.Section scan(int sx, int sy, int sz) {
+        BlockIndex blocks = BlockIndex.Get();
+        BlockIndex.Section self = blocks.section(sx, sy, sz);
+        BlockIndex.Section below = blocks.section(sx, sy - 1, sz);
+        BlockIndex.Section above = blocks.section(sx, sy + 1, sz);
+        BlockIndex.Section east = blocks.section(sx + 1, sy, sz);
+        BlockIndex.Section west = blocks.section(sx - 1, sy, sz);
+        BlockIndex.Section south = blocks.section(sx, sy, sz + 1);
+        BlockIndex.Section north = blocks.section(sx, sy, sz - 1);
+
+        if (self.isEmpty() && below.isEmpty()) {
+            return HoleIndex.NONE;
+        }
+
+        byte[] flags = null;
+        int[] holes = new int[16];
+        int count = 0;
+
+        for (int w = 0; w < 64; ++w) {
+            long floor = w >= 4 ? self.resistant(w - 4) : below.resistant(w + 60);
+            long candidates = self.air(w) & floor;
+
+            if (candidates != 0L) {
+                candidates &= HoleIndex.walls(self.resistant(w), east.resistant(w), west.resistant(w), (w & 3) == 3 ? south.resistant(w - 3) : self.resistant(w + 1), (w & 3) == 0 ? north.resistant(w + 3) : self.resistant(w - 1));
+                if (candidates != 0L) {
+                    long bedrock = (w >= 4 ? self.bedrock(w - 4) : below.bedrock(w + 60)) & HoleIndex.walls(self.bedrock(w), east.bedrock(w), west.bedrock(w), (w & 3) == 3 ? south.bedrock(w - 3) : self.bedrock(w + 1), (w & 3) == 0 ? north.bedrock(w + 3) : self.bedrock(w - 1));
+                    long open = (w < 60 ? self.air(w + 4) : above.air(w - 60)) & (w < 56 ? self.air(w + 8) : above.air(w - 56));
+
+                    while (candidates != 0L) {
+                        long bit = candidates & -candidates;
+                        int cell = w << 6 | Long.numberOfTrailingZeros(bit);
+                        int kind = HoleIndex.HOLE;
+
+                        if ((bedrock & bit) != 0L) {
+                            kind |= HoleIndex.BEDROCK;
+                        }
+
+                        if ((open & bit) != 0L) {
+                            kind |= HoleIndex.OPEN;
+                        }
+
+                        if (flags == null) {
+                            flags = new byte[4096];
+                        }
+
+                        if (count == holes.length) {
+                            holes = Arrays.copyOf(holes, count * 2);
+                        }
+
+                        flags[cell] = (byte) kind;
+                        holes[count++] = cell;
+                        candidates &= ~bit;
+                    }
+                }
+            }
+        }
+
+        return count == 0 ? HoleIndex.NONE : new HoleIndex.Section(flags, Arrays.copyOf(holes, count));
+    }
+
+    private static long walls(long self, long east, long west, long south, long north) {
+        long x = (self >>> 1 & 9223231297218904063L | east << 15 & -9223231297218904064L) & (self << 1 & -281479271743490L | west >>> 15 & 281479271743489L);
+
+        return x & (self >>> 16 | south << 48) & (self << 16 | north >>> 48);
+    }
+
+    private void invalidate(BlockPos pos) {
+        this.invalidate(pos.x, pos.y, pos.z);
+        this.invalidate(pos.x, pos.y + 1, pos.z);
+        this.invalidate(pos.x, pos.y - 1, pos.z);
+        this.invalidate(pos.x, pos.y - 2, pos.z);
+        this.invalidate(pos.x + 1, pos.y, pos.z);
+        this.invalidate(pos.x - 1, pos.y, pos.z);
+        this.invalidate(pos.x, pos.y, pos.z + 1);
+        this.invalidate(pos.x, pos.y, pos.z - 1);
+    }
+
+    private void invalidate(int x, int y, int z) {
+        if (y >= 0 && y <= 255) {
+            HoleIndex.Section[] column = (HoleIndex.Section[]) this.columns.get(Long.valueOf(ChunkPos.asLong(x >> 4, z >> 4)));
+
+            if (column != null && column[y >> 4] != null) {
+                column[y >> 4] = null;
+                ++this.version;
+            }
+
+        }
+    }
+
+    private void invalidate(int x1, int y1, int z1, int x2, int y2, int z2) {
+        if (this.world == HoleIndex.mc.world) {
+            for (int cx = x1 - 1 >> 4; cx <= x2 + 1 >> 4; ++cx) {
+                for (int cz = z1 - 1 >> 4; cz <= z2 + 1 >> 4; ++cz) {
+                    Long key = Long.valueOf(ChunkPos.asLong(cx, cz));
+                    HoleIndex.Section[] column = (HoleIndex.Section[]) this.columns.get(key);
+
+                    if (column != null) {
+                        if (this.world.getChunkProvider().getLoadedChunk(cx, cz) == null) {
+                            this.columns.remove(key);
+                            ++this.version;
+                        } else {
+                            for (int sy = Math.max(0, y1 - 2 >> 4); sy <= Math.min(15, y2 + 1 >> 4); ++sy) {
+                                if (column[sy] != null) {
+                                    column[sy] = null;
+                                    ++this.version;
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+
+        }
+    }
+
+    private static class Section {
+
+        private final byte[] flags;
+        private final int[] holes;
+
+        private Section(byte[] flags, int[] holes) {
+            this.flags = flags;
+            this.holes = holes;
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package live.rift.util;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import live.rift.RiftMod;
+
+public class InitGraph {
+
+    private static final InitGraph.Task DONE = new InitGraph.Task("done", (Runnable) null, true);
+    private final String name;
+    private final Map tasks = new LinkedHashMap();
+    private final LinkedBlockingQueue mainQueue = new LinkedBlockingQueue();
+    private final AtomicInteger remaining = new AtomicInteger();
+    private volatile Throwable failure;
+    private ExecutorService pool;
+
+    public InitGraph(String name) {
+        this.name = name;
+    }
+
+    public InitGraph main(String name, Runnable action, String... dependencies) {
+        return this.add(new InitGraph.Task(name, action, true), dependencies);
+    }
+
+    public InitGraph async(String name, Runnable action, String... dependencies) {
+        return this.add(new InitGraph.Task(name, action, false), dependencies);
+    }
+
+    private InitGraph add(InitGraph.Task task, String[] dependencies) {
+        if (this.tasks.containsKey(task.name)) {
+            throw new IllegalArgumentException("Duplicate init task " + task.name);
+        } else {
+            for (int i = 0; i < dependencies.length; ++i) {
+                InitGraph.Task dependency = (InitGraph.Task) this.tasks.get(dependencies[i]);
+
+                if (dependency == null) {
+                    throw new IllegalArgumentException("Init task " + task.name + " depends on unknown task " + dependencies[i]);
+                }
+
+                dependency.dependents.add(task);
+                task.pending.incrementAndGet();
+            }
+
+            this.tasks.put(task.name, task);
+            return this;
+        }
+    }
+
+    public void run() {
+        StartupTracer.Span span = StartupTracer.begin(this.name);
+        long start = System.nanoTime();
+        int threads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+        AtomicInteger count = new AtomicInteger();
+
+        this.pool = Executors.newFixedThreadPool(threads, (runnable) -> {
+            Thread thread = new Thread(runnable, "Rift Init " + count.incrementAndGet());
+
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.remaining.set(this.tasks.size());
+        if (this.tasks.isEmpty()) {
+            this.mainQueue.offer(InitGraph.DONE);
+        }
+
+        Iterator iterator = this.tasks.values().iterator();
+
+        while (iterator.hasNext()) {
+            InitGraph.Task task = (InitGraph.Task) iterator.next();
+
+            if (task.pending.get() == 0) {
+                this.schedule(task);
+            }
+        }
+
+        try {
+            while (true) {
+                InitGraph.Task task;
+
+                try {
+                    task = (InitGraph.Task) this.mainQueue.take();
+                } catch (InterruptedException interruptedexception) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException("[Rift] Interrupted during " + this.name, interruptedexception);
+                }
+
+                if (task == InitGraph.DONE) {
+                    break;
+                }
+
+                this.execute(task);
+            }
+        } finally {
+            this.pool.shutdown();
+            span.end();
+        }
+
+        if (this.failure != null) {
+            throw new RuntimeException("[Rift] " + this.name + " failed", this.failure);
+        } else {
+            this.report((System.nanoTime() - start) / 1000000L);
+        }
+    }
+
+    private void schedule(InitGraph.Task task) {
+        if (task.main) {
+            this.mainQueue.offer(task);
+        } else {
+            this.pool.execute(() -> {
+                this.execute(task);
+            });
+        }
+
+    }
+
+    private void execute(InitGraph.Task task) {
+        if (this.failure == null) {
+            long start = System.nanoTime();
+            StartupTracer.Span span = StartupTracer.begin(this.name + ": " + task.name);
+
+            try {
+                task.action.run();
+            } catch (Throwable throwable) {
+                this.failure = throwable;
+                RiftMod.logger.error("[Rift] Init task " + task.name + " failed", throwable);
+                this.mainQueue.offer(InitGraph.DONE);
+                return;
+            } finally {
+                span.end();
+            }
+
+            task.millis = (System.nanoTime() - start) / 1000000L;
+            task.thread = Thread.currentThread().getName();
+            Iterator iterator = task.dependents.iterator();
+
+            while (iterator.hasNext()) {
+                InitGraph.Task dependent = (InitGraph.Task) iterator.next();
+
+                if (dependent.pending.decrementAndGet() == 0) {
+                    this.schedule(dependent);
+                }
+            }
+
+            if (this.remaining.decrementAndGet() == 0) {
+                this.mainQueue.offer(InitGraph.DONE);
+            }
+
+        }
+    }
+
+    private void report(long total) {
+        RiftMod.logger.info("[Rift] " + this.name + " finished in " + total + "ms");
+        Iterator iterator = this.tasks.values().iterator();
+
+        while (iterator.hasNext()) {
+            InitGraph.Task task = (InitGraph.Task) iterator.next();
+
+            RiftMod.logger.info("[Rift]   " + task.name + ": " + task.millis + "ms (" + task.thread + ")");
+        }
+
+    }
+
+    private static class Task {
+
+        private final String name;
+        private final Runnable action;
+        private final boolean main;
+        private final List dependents = new ArrayList();
+        private final AtomicInteger pending = new AtomicInteger();
+        private volatile long millis;
+        private volatile String thread;
+
+        private Task(String name, Runnable action, boolean main) {
+            this.name = name;
+            this.action = action;
+            this.main = main;
+        }
+    }
+}
@@ -102,45 +102,45 @@ public class RenderMethods {
         GL11.glShadeModel(7425);
         switch (type) {
         case 0:
-            GL11.glBegin(2);
-            GL11.glVertex2d((double) x, (double) (y + size));
-            GL11.glVertex2d((double) (x + size), (double) (y - size));
-            GL11.glVertex2d((double) (x - size), (double) (y - size));
-            GL11.glEnd();
-            GL11.glBegin(4);
-            GL11.glVertex2d((double) x, (double) (y + size));
-            GL11.glVertex2d((double) (x + size), (double) (y - size));
-            GL11.glVertex2d((double) (x - size), (double) (y - size));
-            GL11.glEnd();
+            ShapeBuffer.begin(2);
+            ShapeBuffer.vertex((double) x, (double) (y + size));
+            ShapeBuffer.vertex((double) (x + size), (double) (y - size));
+            ShapeBuffer.vertex((double) (x - size), (double) (y - size));
+            ShapeBuffer.end();
+            ShapeBuffer.begin(4);
+            ShapeBuffer.vertex((double) x, (double) (y + size));
+            ShapeBuffer.vertex((double) (x + size), (double) (y - size));
+            ShapeBuffer.vertex((double) (x - size), (double) (y - size));
+            ShapeBuffer.end();
             break;
 
         case 1:
-            GL11.glBegin(2);
-            GL11.glVertex2d((double) x, (double) y);
-            GL11.glVertex2d((double) x, (double) (y + size / 2));
-            GL11.glVertex2d((double) (x + size + size / 2), (double) y);
-            GL11.glEnd();
-            GL11.glBegin(4);
-            GL11.glVertex2d((double) x, (double) y);
-            GL11.glVertex2d((double) x, (double) (y + size / 2));
-            GL11.glVertex2d((double) (x + size + size / 2), (double) y);
-            GL11.glEnd();
+            ShapeBuffer.begin(2);
+            ShapeBuffer.vertex((double) x, (double) y);
+            ShapeBuffer.vertex((double) x, (double) (y + size / 2));
+            ShapeBuffer.vertex((double) (x + size + size / 2), (double) y);
+            ShapeBuffer.end();
+            ShapeBuffer.begin(4);
+            ShapeBuffer.vertex((double) x, (double) y);
+            ShapeBuffer.vertex((double) x, (double) (y + size / 2));
+            ShapeBuffer.vertex((double) (x + size + size / 2), (double) y);
+            ShapeBuffer.end();
 
         case 2:
         default:
             break;
 
         case 3:
-            GL11.glBegin(2);
-            GL11.glVertex2d((double) x, (double) y);
-            GL11.glVertex2d((double) x + (double) size * 1.25D, (double) (y - size / 2));
-            GL11.glVertex2d((double) x + (double) size * 1.25D, (double) (y + size / 2));
-            GL11.glEnd();
-            GL11.glBegin(4);
-            GL11.glVertex2d((double) x + (double) size * 1.25D, (double) (y - size / 2));
-            GL11.glVertex2d((double) x, (double) y);
-            GL11.glVertex2d((double) x + (double) size * 1.25D, (double) (y + size / 2));
-            GL11.glEnd();
+            ShapeBuffer.begin(2);
+            ShapeBuffer.vertex((double) x, (double) y);
+            ShapeBuffer.vertex((double) x + (double) size * 1.25D, (double) (y - size / 2));
+            ShapeBuffer.vertex((double) x + (double) size * 1.25D, (double) (y + size / 2));
+            ShapeBuffer.end();
+            ShapeBuffer.begin(4);
+            ShapeBuffer.vertex((double) x + (double) size * 1.25D, (double) (y - size / 2));
+            ShapeBuffer.vertex((double) x, (double) y);
+            ShapeBuffer.vertex((double) x + (double) size * 1.25D, (double) (y + size / 2));
+            ShapeBuffer.end();
         }
 
         GL11.glDisable(2848);
@@ -177,10 +177,10 @@ public class RenderMethods {
     public static void drawLine(float x, float y, float x1, float y1, float width) {
         GL11.glDisable(3553);
         GL11.glLineWidth(width);
-        GL11.glBegin(1);
-        GL11.glVertex2f(x, y);
-        GL11.glVertex2f(x1, y1);
-        GL11.glEnd();
+        ShapeBuffer.begin(1);
+        ShapeBuffer.vertex(x, y);
+        ShapeBuffer.vertex(x1, y1);
+        ShapeBuffer.end();
         GL11.glEnable(3553);
     }
 
@@ -231,13 +231,13 @@ public class RenderMethods {
         GL11.glDisable(3553);
         GL11.glBlendFunc(770, 771);
         GL11.glLineWidth(lineWidth);
-        GL11.glBegin(3);
-        GL11.glVertex2f(x, y);
-        GL11.glVertex2f(x, y1);
-        GL11.glVertex2f(x1, y1);
-        GL11.glVertex2f(x1, y);
-        GL11.glVertex2f(x, y);
-        GL11.glEnd();
+        ShapeBuffer.begin(3);
+        ShapeBuffer.vertex(x, y);
+        ShapeBuffer.vertex(x, y1);
+        ShapeBuffer.vertex(x1, y1);
+        ShapeBuffer.vertex(x1, y);
+        ShapeBuffer.vertex(x, y);
+        ShapeBuffer.end();
         GL11.glEnable(3553);
         GL11.glDisable(3042);
         disableGL2D();
@@ -251,13 +251,13 @@ public class RenderMethods {
         GL11.glDisable(3553);
         GL11.glBlendFunc(770, 771);
         GL11.glLineWidth(lineWidth);
-        GL11.glBegin(3);
-        GL11.glVertex2f(x, y);
-        GL11.glVertex2f(x, y1);
-        GL11.glVertex2f(x1, y1);
-        GL11.glVertex2f(x1, y);
-        GL11.glVertex2f(x, y);
-        GL11.glEnd();
+        ShapeBuffer.begin(3);
+        ShapeBuffer.vertex(x, y);
+        ShapeBuffer.vertex(x, y1);
+        ShapeBuffer.vertex(x1, y1);
+        ShapeBuffer.vertex(x1, y);
+        ShapeBuffer.vertex(x, y);
+        ShapeBuffer.end();
         GL11.glEnable(3553);
         GL11.glDisable(3042);
         disableGL2D();
@@ -303,14 +303,14 @@ public class RenderMethods {
     public static void drawGradientRect(float x, float y, float x1, float y1, int topColor, int bottomColor) {
         enableGL2D();
         GL11.glShadeModel(7425);
-        GL11.glBegin(7);
-        glColor(topColor);
-        GL11.glVertex2f(x, y1);
-        GL11.glVertex2f(x1, y1);
-        glColor(bottomColor);
-        GL11.glVertex2f(x1, y);
-        GL11.glVertex2f(x, y);
-        GL11.glEnd();
+        ShapeBuffer.beginColored(7);
+        ShapeBuffer.color(topColor);
+        ShapeBuffer.vertex(x, y1);
+        ShapeBuffer.vertex(x1, y1);
+        ShapeBuffer.color(bottomColor);
+        ShapeBuffer.vertex(x1, y);
+        ShapeBuffer.vertex(x, y);
+        ShapeBuffer.end();
         GL11.glShadeModel(7424);
         disableGL2D();
     }
@@ -318,14 +318,14 @@ public class RenderMethods {
     public static void drawGradientHRect(float x, float y, float x1, float y1, int topColor, int bottomColor) {
         enableGL2D();
         GL11.glShadeModel(7425);
-        GL11.glBegin(7);
-        glColor(topColor);
-        GL11.glVertex2f(x, y);
-        GL11.glVertex2f(x, y1);
-        glColor(bottomColor);
-        GL11.glVertex2f(x1, y1);
-        GL11.glVertex2f(x1, y);
-        GL11.glEnd();
+        ShapeBuffer.beginColored(7);
+        ShapeBuffer.color(topColor);
+        ShapeBuffer.vertex(x, y);
+        ShapeBuffer.vertex(x, y1);
+        ShapeBuffer.color(bottomColor);
+        ShapeBuffer.vertex(x1, y1);
+        ShapeBuffer.vertex(x1, y);
+        ShapeBuffer.end();
         GL11.glShadeModel(7424);
         disableGL2D();
     }
@@ -337,14 +337,14 @@ public class RenderMethods {
         GL11.glEnable(2848);
         GL11.glShadeModel(7425);
         GL11.glPushMatrix();
-        GL11.glBegin(7);
-        glColor(col1);
-        GL11.glVertex2d(x2, y);
-        GL11.glVertex2d(x, y);
-        glColor(col2);
-        GL11.glVertex2d(x, y2);
-        GL11.glVertex2d(x2, y2);
-        GL11.glEnd();
+        ShapeBuffer.beginColored(7);
+        ShapeBuffer.color(col1);
+        ShapeBuffer.vertex(x2, y);
+        ShapeBuffer.vertex(x, y);
+        ShapeBuffer.color(col2);
+        ShapeBuffer.vertex(x, y2);
+        ShapeBuffer.vertex(x2, y2);
+        ShapeBuffer.end();
         GL11.glPopMatrix();
         GL11.glEnable(3553);
         GL11.glDisable(3042);
@@ -357,16 +357,16 @@ public class RenderMethods {
         GL11.glPushMatrix();
         glColor(col1);
         GL11.glLineWidth(1.0F);
-        GL11.glBegin(1);
-        GL11.glVertex2d(x, y);
-        GL11.glVertex2d(x, y2);
-        GL11.glVertex2d(x2, y2);
-        GL11.glVertex2d(x2, y);
-        GL11.glVertex2d(x, y);
-        GL11.glVertex2d(x2, y);
-        GL11.glVertex2d(x, y2);
-        GL11.glVertex2d(x2, y2);
-        GL11.glEnd();
+        ShapeBuffer.begin(1);
+        ShapeBuffer.vertex(x, y);
+        ShapeBuffer.vertex(x, y2);
+        ShapeBuffer.vertex(x2, y2);
+        ShapeBuffer.vertex(x2, y);
+        ShapeBuffer.vertex(x, y);
+        ShapeBuffer.vertex(x2, y);
+        ShapeBuffer.vertex(x, y2);
+        ShapeBuffer.vertex(x2, y2);
+        ShapeBuffer.end();
         GL11.glPopMatrix();
         drawGradientRect(x, y, x2, y2, col2, col3);
         disableGL2D();
@@ -382,35 +382,20 @@ public class RenderMethods {
         GL11.glTranslated((double) x, (double) y, 0.0D);
         GL11.glColor4f(f2, f3, f4, f1);
         GL11.glLineWidth(width);
-        int i;
-        float a;
-        float xc;
-        float yc;
-
-        if (angle > 0.0D) {
-            GL11.glBegin(3);
-
-            for (i = 0; (double) i < angle; ++i) {
-                a = (float) ((double) i * angle * 3.141592653589793D / (double) points);
-                xc = (float) (Math.cos((double) a) * (double) radius);
-                yc = (float) (Math.sin((double) a) * (double) radius);
-                GL11.glVertex2f(xc, yc);
-            }
+        if (angle != 0.0D) {
+            float[] table = ShapeBuffer.circle(Math.max(1, (int) Math.round((double) (points * 2.0F) / Math.abs(angle))));
+            int segments = table.length / 2 - 1;
+            float r = angle > 0.0D ? radius : -radius;
 
-            GL11.glEnd();
-        }
+            ShapeBuffer.begin(3);
 
-        if (angle < 0.0D) {
-            GL11.glBegin(3);
+            for (int i = 0; (double) i < Math.abs(angle); ++i) {
+                int j = i % segments;
 
-            for (i = 0; (double) i > angle; --i) {
-                a = (float) ((double) i * angle * 3.141592653589793D / (double) points);
-                xc = (float) (Math.cos((double) a) * (double) (-radius));
-                yc = (float) (Math.sin((double) a) * (double) (-radius));
-                GL11.glVertex2f(xc, yc);
+                ShapeBuffer.vertex((double) (table[j * 2 + 1] * r), (double) (table[j * 2] * r));
             }
 
-            GL11.glEnd();
+            ShapeBuffer.end();
         }
 
         disableGL2D();
@@ -459,12 +444,12 @@ public class RenderMethods {
     }
 
     public static void drawRect(float x, float y, float x1, float y1) {
-        GL11.glBegin(7);
-        GL11.glVertex2f(x, y1);
-        GL11.glVertex2f(x1, y1);
-        GL11.glVertex2f(x1, y);
-        GL11.glVertex2f(x, y);
-        GL11.glEnd();
+        ShapeBuffer.begin(7);
+        ShapeBuffer.vertex(x, y1);
+        ShapeBuffer.vertex(x1, y1);
+        ShapeBuffer.vertex(x1, y);
+        ShapeBuffer.vertex(x, y);
+        ShapeBuffer.end();
     }
 
     public static void rectangle(double left, double top, double right, double bottom, int color) {
@@ -511,26 +496,13 @@ public class RenderMethods {
         float f1 = (float) (c >> 16 & 255) / 255.0F;
         float f2 = (float) (c >> 8 & 255) / 255.0F;
         float f3 = (float) (c & 255) / 255.0F;
-        float theta = (float) (6.2831852D / (double) num_segments);
-        float p = (float) Math.cos((double) theta);
-        float s = (float) Math.sin((double) theta);
-        float x = r;
-        float y = 0.0F;
 
         enableGL2D();
         GL11.glScalef(0.5F, 0.5F, 0.5F);
         GL11.glColor4f(f1, f2, f3, f);
-        GL11.glBegin(2);
-
-        for (int ii = 0; ii < num_segments; ++ii) {
-            GL11.glVertex2f(x + cx, y + cy);
-            float t = x;
-
-            x = p * x - s * y;
-            y = s * t + p * y;
-        }
-
-        GL11.glEnd();
+        ShapeBuffer.begin(2);
+        ShapeBuffer.circle((double) cx, (double) cy, (double) r, num_segments, num_segments);
+        ShapeBuffer.end();
         GL11.glScalef(2.0F, 2.0F, 2.0F);
         disableGL2D();
     }
@@ -547,16 +519,9 @@ public class RenderMethods {
         enableGL2D();
         GL11.glScalef(0.5F, 0.5F, 0.5F);
         GL11.glColor4f(f1, f2, f3, f);
-        GL11.glBegin(6);
-
-        for (int i = 0; i <= 360; ++i) {
-            double x = Math.sin((double) i * 3.141592653589793D / 180.0D) * r;
-            double y = Math.cos((double) i * 3.141592653589793D / 180.0D) * r;
-
-            GL11.glVertex2d((double) cx + x, (double) cy + y);
-        }
-
-        GL11.glEnd();
+        ShapeBuffer.begin(6);
+        ShapeBuffer.circle((double) cx, (double) cy, r, 360, 361);
+        ShapeBuffer.end();
         GL11.glScalef(2.0F, 2.0F, 2.0F);
         disableGL2D();
     }
@@ -584,124 +549,104 @@ public class RenderMethods {
 
     public static void drawOutlinedBox(AxisAlignedBB box) {
         if (box != null) {
-            GL11.glBegin(3);
-            GL11.glVertex3d(box.minX, box.minY, box.minZ);
-            GL11.glVertex3d(box.maxX, box.minY, box.minZ);
-            GL11.glVertex3d(box.maxX, box.minY, box.maxZ);
-            GL11.glVertex3d(box.minX, box.minY, box.maxZ);
-            GL11.glVertex3d(box.minX, box.minY, box.minZ);
-            GL11.glEnd();
-            GL11.glBegin(3);
-            GL11.glVertex3d(box.minX, box.maxY, box.minZ);
-            GL11.glVertex3d(box.maxX, box.maxY, box.minZ);
-            GL11.glVertex3d(box.maxX, box.maxY, box.maxZ);
-            GL11.glVertex3d(box.minX, box.maxY, box.maxZ);
-            GL11.glVertex3d(box.minX, box.maxY, box.minZ);
-            GL11.glEnd();
-            GL11.glBegin(1);
-            GL11.glVertex3d(box.minX, box.minY, box.minZ);
-            GL11.glVertex3d(box.minX, box.maxY, box.minZ);
-            GL11.glVertex3d(box.maxX, box.minY, box.minZ);
-            GL11.glVertex3d(box.maxX, box.maxY, box.minZ);
-            GL11.glVertex3d(box.maxX, box.minY, box.maxZ);
-            GL11.glVertex3d(box.maxX, box.maxY, box.maxZ);
-            GL11.glVertex3d(box.minX, box.minY, box.maxZ);
-            GL11.glVertex3d(box.minX, box.maxY, box.maxZ);
-            GL11.glEnd();
+            ShapeBuffer.begin(1);
+            ShapeBuffer.vertex(box.minX, box.minY, box.minZ);
+            ShapeBuffer.vertex(box.maxX, box.minY, box.minZ);
+            ShapeBuffer.vertex(box.maxX, box.minY, box.minZ);
+            ShapeBuffer.vertex(box.maxX, box.minY, box.maxZ);
+            ShapeBuffer.vertex(box.maxX, box.minY, box.maxZ);
+            ShapeBuffer.vertex(box.minX, box.minY, box.maxZ);
+            ShapeBuffer.vertex(box.minX, box.minY, box.maxZ);
+            ShapeBuffer.vertex(box.minX, box.minY, box.minZ);
+            ShapeBuffer.vertex(box.minX, box.maxY, box.minZ);
+            ShapeBuffer.vertex(box.maxX, box.maxY, box.minZ);
+            ShapeBuffer.vertex(box.maxX, box.maxY, box.minZ);
+            ShapeBuffer.vertex(box.maxX, box.maxY, box.maxZ);
+            ShapeBuffer.vertex(box.maxX, box.maxY, box.maxZ);
+            ShapeBuffer.vertex(box.minX, box.maxY, box.maxZ);
+            ShapeBuffer.vertex(box.minX, box.maxY, box.maxZ);
+            ShapeBuffer.vertex(box.minX, box.maxY, box.minZ);
+            ShapeBuffer.vertex(box.minX, box.minY, box.minZ);
+            ShapeBuffer.vertex(box.minX, box.maxY, box.minZ);
+            ShapeBuffer.vertex(box.maxX, box.minY, box.minZ);
+            ShapeBuffer.vertex(box.maxX, box.maxY, box.minZ);
+            ShapeBuffer.vertex(box.maxX, box.minY, box.maxZ);
+            ShapeBuffer.vertex(box.maxX, box.maxY, box.maxZ);
+            ShapeBuffer.vertex(box.minX, box.minY, box.maxZ);
+            ShapeBuffer.vertex(box.minX, box.maxY, box.maxZ);
+            ShapeBuffer.end();
         }
     }
 
     public static void renderCrosses(AxisAlignedBB box) {
-        GL11.glBegin(1);
-        GL11.glVertex3d(box.maxX, box.maxY, box.maxZ);
-        GL11.glVertex3d(box.maxX, box.minY, box.minZ);
-        GL11.glVertex3d(box.maxX, box.maxY, box.minZ);
-        GL11.glVertex3d(box.minX, box.maxY, box.maxZ);
-        GL11.glVertex3d(box.minX, box.maxY, box.minZ);
-        GL11.glVertex3d(box.maxX, box.minY, box.minZ);
-        GL11.glVertex3d(box.minX, box.minY, box.maxZ);
-        GL11.glVertex3d(box.maxX, box.maxY, box.maxZ);
-        GL11.glVertex3d(box.minX, box.minY, box.maxZ);
-        GL11.glVertex3d(box.minX, box.maxY, box.minZ);
-        GL11.glVertex3d(box.minX, box.minY, box.minZ);
-        GL11.glVertex3d(box.maxX, box.minY, box.maxZ);
-        GL11.glEnd();
+        ShapeBuffer.begin(1);
+        ShapeBuffer.vertex(box.maxX, box.maxY, box.maxZ);
+        ShapeBuffer.vertex(box.maxX, box.minY, box.minZ);
+        ShapeBuffer.vertex(box.maxX, box.maxY, box.minZ);
+        ShapeBuffer.vertex(box.minX, box.maxY, box.maxZ);
+        ShapeBuffer.vertex(box.minX, box.maxY, box.minZ);
+        ShapeBuffer.vertex(box.maxX, box.minY, box.minZ);
+        ShapeBuffer.vertex(box.minX, box.minY, box.maxZ);
+        ShapeBuffer.vertex(box.maxX, box.maxY, box.maxZ);
+        ShapeBuffer.vertex(box.minX, box.minY, box.maxZ);
+        ShapeBuffer.vertex(box.minX, box.maxY, box.minZ);
+        ShapeBuffer.vertex(box.minX, box.minY, box.minZ);
+        ShapeBuffer.vertex(box.maxX, box.minY, box.maxZ);
+        ShapeBuffer.end();
     }
 
     public static void drawBox(AxisAlignedBB box) {
         if (box != null) {
-            GL11.glBegin(7);
-            GL11.glVertex3d(box.minX, box.minY, box.maxZ);
-            GL11.glVertex3d(box.maxX, box.minY, box.maxZ);
-            GL11.glVertex3d(box.maxX, box.maxY, box.maxZ);
-            GL11.glVertex3d(box.minX, box.maxY, box.maxZ);
-            GL11.glEnd();
-            GL11.glBegin(7);
-            GL11.glVertex3d(box.maxX, box.minY, box.maxZ);
-            GL11.glVertex3d(box.minX, box.minY, box.maxZ);
-            GL11.glVertex3d(box.minX, box.maxY, box.maxZ);
-            GL11.glVertex3d(box.maxX, box.maxY, box.maxZ);
-            GL11.glEnd();
-            GL11.glBegin(7);
-            GL11.glVertex3d(box.minX, box.minY, box.minZ);
-            GL11.glVertex3d(box.minX, box.minY, box.maxZ);
-            GL11.glVertex3d(box.minX, box.maxY, box.maxZ);
-            GL11.glVertex3d(box.minX, box.maxY, box.minZ);
-            GL11.glEnd();
-            GL11.glBegin(7);
-            GL11.glVertex3d(box.minX, box.minY, box.maxZ);
-            GL11.glVertex3d(box.minX, box.minY, box.minZ);
-            GL11.glVertex3d(box.minX, box.maxY, box.minZ);
-            GL11.glVertex3d(box.minX, box.maxY, box.maxZ);
-            GL11.glEnd();
-            GL11.glBegin(7);
-            GL11.glVertex3d(box.maxX, box.minY, box.maxZ);
-            GL11.glVertex3d(box.maxX, box.minY, box.minZ);
-            GL11.glVertex3d(box.maxX, box.maxY, box.minZ);
-            GL11.glVertex3d(box.maxX, box.maxY, box.maxZ);
-            GL11.glEnd();
-            GL11.glBegin(7);
-            GL11.glVertex3d(box.maxX, box.minY, box.minZ);
-            GL11.glVertex3d(box.maxX, box.minY, box.maxZ);
-            GL11.glVertex3d(box.maxX, box.maxY, box.maxZ);
-            GL11.glVertex3d(box.maxX, box.maxY, box.minZ);
-            GL11.glEnd();
-            GL11.glBegin(7);
-            GL11.glVertex3d(box.minX, box.minY, box.minZ);
-            GL11.glVertex3d(box.maxX, box.minY, box.minZ);
-            GL11.glVertex3d(box.maxX, box.maxY, box.minZ);
-            GL11.glVertex3d(box.minX, box.maxY, box.minZ);
-            GL11.glEnd();
-            GL11.glBegin(7);
-            GL11.glVertex3d(box.maxX, box.minY, box.minZ);
-            GL11.glVertex3d(box.minX, box.minY, box.minZ);
-            GL11.glVertex3d(box.minX, box.maxY, box.minZ);
-            GL11.glVertex3d(box.maxX, box.maxY, box.minZ);
-            GL11.glEnd();
-            GL11.glBegin(7);
-            GL11.glVertex3d(box.minX, box.maxY, box.minZ);
-            GL11.glVertex3d(box.maxX, box.maxY, box.minZ);
-            GL11.glVertex3d(box.maxX, box.maxY, box.maxZ);
-            GL11.glVertex3d(box.minX, box.maxY, box.maxZ);
-            GL11.glEnd();
-            GL11.glBegin(7);
-            GL11.glVertex3d(box.maxX, box.maxY, box.minZ);
-            GL11.glVertex3d(box.minX, box.maxY, box.minZ);
-            GL11.glVertex3d(box.minX, box.maxY, box.maxZ);
-            GL11.glVertex3d(box.maxX, box.maxY, box.maxZ);
-            GL11.glEnd();
-            GL11.glBegin(7);
-            GL11.glVertex3d(box.minX, box.minY, box.minZ);
-            GL11.glVertex3d(box.maxX, box.minY, box.minZ);
-            GL11.glVertex3d(box.maxX, box.minY, box.maxZ);
-            GL11.glVertex3d(box.minX, box.minY, box.maxZ);
-            GL11.glEnd();
-            GL11.glBegin(7);
-            GL11.glVertex3d(box.maxX, box.minY, box.minZ);
-            GL11.glVertex3d(box.minX, box.minY, box.minZ);
-            GL11.glVertex3d(box.minX, box.minY, box.maxZ);
-            GL11.glVertex3d(box.maxX, box.minY, box.maxZ);
-            GL11.glEnd();
+            ShapeBuffer.begin(7);
+            ShapeBuffer.vertex(box.minX, box.minY, box.maxZ);
+            ShapeBuffer.vertex(box.maxX, box.minY, box.maxZ);
+            ShapeBuffer.vertex(box.maxX, box.maxY, box.maxZ);
+            ShapeBuffer.vertex(box.minX, box.maxY, box.maxZ);
+            ShapeBuffer.vertex(box.maxX, box.minY, box.maxZ);
+            ShapeBuffer.vertex(box.minX, box.minY, box.maxZ);
+            ShapeBuffer.vertex(box.minX, box.maxY, box.maxZ);
+            ShapeBuffer.vertex(box.maxX, box.maxY, box.maxZ);
+            ShapeBuffer.vertex(box.minX, box.minY, box.minZ);
+            ShapeBuffer.vertex(box.minX, box.minY, box.maxZ);
+            ShapeBuffer.vertex(box.minX, box.maxY, box.maxZ);
+            ShapeBuffer.vertex(box.minX, box.maxY, box.minZ);
+            ShapeBuffer.vertex(box.minX, box.minY, box.maxZ);
+            ShapeBuffer.vertex(box.minX, box.minY, box.minZ);
+            ShapeBuffer.vertex(box.minX, box.maxY, box.minZ);
+            ShapeBuffer.vertex(box.minX, box.maxY, box.maxZ);
+            ShapeBuffer.vertex(box.maxX, box.minY, box.maxZ);
+            ShapeBuffer.vertex(box.maxX, box.minY, box.minZ);
+            ShapeBuffer.vertex(box.maxX, box.maxY, box.minZ);
+            ShapeBuffer.vertex(box.maxX, box.maxY, box.maxZ);
+            ShapeBuffer.vertex(box.maxX, box.minY, box.minZ);
+            ShapeBuffer.vertex(box.maxX, box.minY, box.maxZ);
+            ShapeBuffer.vertex(box.maxX, box.maxY, box.maxZ);
+            ShapeBuffer.vertex(box.maxX, box.maxY, box.minZ);
+            ShapeBuffer.vertex(box.minX, box.minY, box.minZ);
+            ShapeBuffer.vertex(box.maxX, box.minY, box.minZ);
+            ShapeBuffer.vertex(box.maxX, box.maxY, box.minZ);
+            ShapeBuffer.vertex(box.minX, box.maxY, box.minZ);
+            ShapeBuffer.vertex(box.maxX, box.minY, box.minZ);
+            ShapeBuffer.vertex(box.minX, box.minY, box.minZ);
+            ShapeBuffer.vertex(box.minX, box.maxY, box.minZ);
+            ShapeBuffer.vertex(box.maxX, box.maxY, box.minZ);
+            ShapeBuffer.vertex(box.minX, box.maxY, box.minZ);
+            ShapeBuffer.vertex(box.maxX, box.maxY, box.minZ);
+            ShapeBuffer.vertex(box.maxX, box.maxY, box.maxZ);
+            ShapeBuffer.vertex(box.minX, box.maxY, box.maxZ);
+            ShapeBuffer.vertex(box.maxX, box.maxY, box.minZ);
+            ShapeBuffer.vertex(box.minX, box.maxY, box.minZ);
+            ShapeBuffer.vertex(box.minX, box.maxY, box.maxZ);
+            ShapeBuffer.vertex(box.maxX, box.maxY, box.maxZ);
+            ShapeBuffer.vertex(box.minX, box.minY, box.minZ);
+            ShapeBuffer.vertex(box.maxX, box.minY, box.minZ);
+            ShapeBuffer.vertex(box.maxX, box.minY, box.maxZ);
+            ShapeBuffer.vertex(box.minX, box.minY, box.maxZ);
+            ShapeBuffer.vertex(box.maxX, box.minY, box.minZ);
+            ShapeBuffer.vertex(box.minX, box.minY, box.minZ);
+            ShapeBuffer.vertex(box.minX, box.minY, box.maxZ);
+            ShapeBuffer.vertex(box.maxX, box.minY, box.maxZ);
+            ShapeBuffer.end();
         }
     }
 }
@@ -97,13 +97,13 @@ public class RenderingMethods {
         GL11.glDisable(3553);
         GL11.glBlendFunc(770, 771);
         GL11.glLineWidth(lineWidth);
-        GL11.glBegin(3);
-        GL11.glVertex2f(x, y);
-        GL11.glVertex2f(x, y1);
-        GL11.glVertex2f(x1, y1);
-        GL11.glVertex2f(x1, y);
-        GL11.glVertex2f(x, y);
-        GL11.glEnd();
+        ShapeBuffer.begin(3);
+        ShapeBuffer.vertex(x, y);
+        ShapeBuffer.vertex(x, y1);
+        ShapeBuffer.vertex(x1, y1);
+        ShapeBuffer.vertex(x1, y);
+        ShapeBuffer.vertex(x, y);
+        ShapeBuffer.end();
         GL11.glEnable(3553);
         GL11.glDisable(3042);
         disableGL2D();
@@ -117,13 +117,13 @@ public class RenderingMethods {
         GL11.glDisable(3553);
         GL11.glBlendFunc(770, 771);
         GL11.glLineWidth(lineWidth);
-        GL11.glBegin(3);
-        GL11.glVertex2d(x, y);
-        GL11.glVertex2d(x, y1);
-        GL11.glVertex2d(x1, y1 + 0.5D);
-        GL11.glVertex2d(x1, y);
-        GL11.glVertex2d(x, y);
-        GL11.glEnd();
+        ShapeBuffer.begin(3);
+        ShapeBuffer.vertex(x, y);
+        ShapeBuffer.vertex(x, y1);
+        ShapeBuffer.vertex(x1, y1 + 0.5D);
+        ShapeBuffer.vertex(x1, y);
+        ShapeBuffer.vertex(x, y);
+        ShapeBuffer.end();
         GL11.glEnable(3553);
         GL11.glDisable(3042);
         disableGL2D();
@@ -203,21 +203,21 @@ public class RenderingMethods {
     }
 
     public static void drawRect(float x, float y, float x1, float y1) {
-        GL11.glBegin(7);
-        GL11.glVertex2f(x, y1);
-        GL11.glVertex2f(x1, y1);
-        GL11.glVertex2f(x1, y);
-        GL11.glVertex2f(x, y);
-        GL11.glEnd();
+        ShapeBuffer.begin(7);
+        ShapeBuffer.vertex(x, y1);
+        ShapeBuffer.vertex(x1, y1);
+        ShapeBuffer.vertex(x1, y);
+        ShapeBuffer.vertex(x, y);
+        ShapeBuffer.end();
     }
 
     public static void drawRectDouble(double x, double y, double x1, double y1) {
-        GL11.glBegin(7);
-        GL11.glVertex2d(x, y1);
-        GL11.glVertex2d(x1, y1);
-        GL11.glVertex2d(x1, y);
-        GL11.glVertex2d(x, y);
-        GL11.glEnd();
+        ShapeBuffer.begin(7);
+        ShapeBuffer.vertex(x, y1);
+        ShapeBuffer.vertex(x1, y1);
+        ShapeBuffer.vertex(x1, y);
+        ShapeBuffer.vertex(x, y);
+        ShapeBuffer.end();
     }
 
     public static void drawRectDoublePlayerESP(double x, double y, double x1, double y1, int nameColor) {
@@ -226,12 +226,12 @@ public class RenderingMethods {
         float green = (float) (nameColor >> 8 & 255) / 255.0F;
         float blue = (float) (nameColor & 255) / 255.0F;
 
-        GL11.glBegin(7);
-        GL11.glVertex2d(x, y1);
-        GL11.glVertex2d(x1, y1);
-        GL11.glVertex2d(x1, y);
-        GL11.glVertex2d(x, y);
-        GL11.glEnd();
+        ShapeBuffer.begin(7);
+        ShapeBuffer.vertex(x, y1);
+        ShapeBuffer.vertex(x1, y1);
+        ShapeBuffer.vertex(x1, y);
+        ShapeBuffer.vertex(x, y);
+        ShapeBuffer.end();
     }
 
     public static void enableGL3D(float lineWidth) {
@@ -351,10 +351,10 @@ public class RenderingMethods {
         GL11.glEnable(3042);
         GL11.glLineWidth(width);
         GL11.glColor4f(c[0], c[1], c[2], c[3]);
-        GL11.glBegin(1);
-        GL11.glVertex3d(0.0D, (double) Minecraft.getMinecraft().player.getEyeHeight(), 0.0D);
-        GL11.glVertex3d(pos[0], pos[1], pos[2]);
-        GL11.glEnd();
+        ShapeBuffer.begin(1);
+        ShapeBuffer.vertex(0.0D, (double) Minecraft.getMinecraft().player.getEyeHeight(), 0.0D);
+        ShapeBuffer.vertex(pos[0], pos[1], pos[2]);
+        ShapeBuffer.end();
         GL11.glDisable(3042);
         GL11.glEnable(3553);
         GL11.glEnable(2929);
@@ -402,13 +402,9 @@ public class RenderingMethods {
         float blue = (float) (color & 255) / 255.0F;
 
         GL11.glColor4f(red, green, blue, alpha);
-        GL11.glBegin(9);
-
-        for (int i = 0; i <= 360; ++i) {
-            GL11.glVertex2d((double) x + Math.sin((double) i * 3.141592653589793D / 180.0D) * (double) radius, (double) y + Math.cos((double) i * 3.141592653589793D / 180.0D) * (double) radius);
-        }
-
-        GL11.glEnd();
+        ShapeBuffer.begin(9);
+        ShapeBuffer.circle((double) x, (double) y, (double) radius, 360, 361);
+        ShapeBuffer.end();
     }
 
     public static void drawUnfilledCircle(int x, int y, float radius, float lineWidth, int color) {
@@ -420,13 +416,9 @@ public class RenderingMethods {
         GL11.glColor4f(red, green, blue, alpha);
         GL11.glLineWidth(lineWidth);
         GL11.glEnable(2848);
-        GL11.glBegin(2);
-
-        for (int i = 0; i <= 360; ++i) {
-            GL11.glVertex2d((double) x + Math.sin((double) i * 3.141592653589793D / 180.0D) * (double) radius, (double) y + Math.cos((double) i * 3.141592653589793D / 180.0D) * (double) radius);
-        }
-
-        GL11.glEnd();
+        ShapeBuffer.begin(2);
+        ShapeBuffer.circle((double) x, (double) y, (double) radius, 360, 361);
+        ShapeBuffer.end();
         GL11.glDisable(2848);
     }
 
@@ -441,16 +433,9 @@ public class RenderingMethods {
         GL11.glEnable(2848);
         GL11.glBlendFunc(770, 771);
         GL11.glColor4f(f1, f2, f3, f);
-        GL11.glBegin(6);
-
-        for (int i = 0; i <= 360; ++i) {
-            double x2 = Math.sin((double) i * 3.141592653589793D / 180.0D) * r;
-            double y2 = Math.cos((double) i * 3.141592653589793D / 180.0D) * r;
-
-            GL11.glVertex2d((double) x + x2, (double) y + y2);
-        }
-
-        GL11.glEnd();
+        ShapeBuffer.begin(6);
+        ShapeBuffer.circle((double) x, (double) y, r, 360, 361);
+        ShapeBuffer.end();
         GL11.glDisable(2848);
         GL11.glEnable(3553);
         GL11.glDisable(3042);
@@ -467,16 +452,9 @@ public class RenderingMethods {
         GL11.glEnable(2848);
         GL11.glBlendFunc(770, 771);
         GL11.glColor4f(f1, f2, f3, f);
-        GL11.glBegin(2);
-
-        for (int i = 0; i <= 360; ++i) {
-            double x2 = Math.sin((double) i * 3.141592653589793D / 180.0D) * radius;
-            double y2 = Math.cos((double) i * 3.141592653589793D / 180.0D) * radius;
-
-            GL11.glVertex2d((double) x + x2, (double) y + y2);
-        }
-
-        GL11.glEnd();
+        ShapeBuffer.begin(2);
+        ShapeBuffer.circle((double) x, (double) y, radius, 360, 361);
+        ShapeBuffer.end();
         GL11.glDisable(2848);
         GL11.glEnable(3553);
         GL11.glDisable(3042);
@@ -498,15 +476,9 @@ public class RenderingMethods {
         GL11.glLineWidth(lineWidth);
         int vertices = (int) Math.min(Math.max(radius, 45.0F), 360.0F);
 
-        GL11.glBegin(2);
-
-        for (int i = 0; i < vertices; ++i) {
-            double angleRadians = 6.283185307179586D * (double) i / (double) vertices;
-
-            GL11.glVertex2d((double) x + Math.sin(angleRadians) * (double) radius, (double) y + Math.cos(angleRadians) * (double) radius);
-        }
-
-        GL11.glEnd();
+        ShapeBuffer.begin(2);
+        ShapeBuffer.circle((double) x, (double) y, (double) radius, vertices, vertices);
+        ShapeBuffer.end();
         GL11.glDisable(3042);
         GL11.glEnable(2884);
         GL11.glEnable(3553);
@@ -532,15 +504,9 @@ public class RenderingMethods {
         GL11.glColor4f(red, green, blue, alpha == 0.0F ? 1.0F : alpha);
         int vertices = (int) Math.min(Math.max(radius, 45.0F), 360.0F);
 
-        GL11.glBegin(9);
-
-        for (int i = 0; i < vertices; ++i) {
-            double angleRadians = 6.283185307179586D * (double) i / (double) vertices;
-
-            GL11.glVertex2d((double) x + Math.sin(angleRadians) * (double) radius, (double) y + Math.cos(angleRadians) * (double) radius);
-        }
-
-        GL11.glEnd();
+        ShapeBuffer.begin(9);
+        ShapeBuffer.circle((double) x, (double) y, (double) radius, vertices, vertices);
+        ShapeBuffer.end();
         GL11.glDisable(3042);
         GL11.glEnable(2884);
         GL11.glEnable(3553);
@@ -564,12 +530,12 @@ public class RenderingMethods {
         GL11.glEnable(2848);
         GL11.glPushMatrix();
         GL11.glColor4f(green, blue, alpha, red);
-        GL11.glBegin(7);
-        GL11.glVertex2d(x2, y1);
-        GL11.glVertex2d(x1, y1);
-        GL11.glVertex2d(x1, y2);
-        GL11.glVertex2d(x2, y2);
-        GL11.glEnd();
+        ShapeBuffer.begin(7);
+        ShapeBuffer.vertex(x2, y1);
+        ShapeBuffer.vertex(x1, y1);
+        ShapeBuffer.vertex(x1, y2);
+        ShapeBuffer.vertex(x2, y2);
+        ShapeBuffer.end();
         GL11.glPopMatrix();
         GL11.glEnable(3553);
         GL11.glDisable(3042);
@@ -0,0 +1,170 @@
+package live.rift.util;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.TreeMap;
+import java.util.Map.Entry;
+import net.minecraft.client.renderer.BufferBuilder;
+import net.minecraft.client.renderer.GLAllocation;
+import net.minecraft.client.renderer.GlStateManager;
+import net.minecraft.client.renderer.OpenGlHelper;
+import net.minecraft.client.renderer.vertex.DefaultVertexFormats;
+import net.minecraft.client.renderer.vertex.VertexBuffer;
+import net.minecraft.util.math.BlockPos;
+import org.lwjgl.opengl.GL11;
+
+public class RetainedGeometry {
+
+    private static BufferBuilder upload;
+    private final RiftRenderer.Batch quads = new RiftRenderer.Batch();
+    private final TreeMap lines = new TreeMap();
+    private long version = Long.MIN_VALUE;
+    private double originX;
+    private double originY;
+    private double originZ;
+    private int quadCount;
+    private float[] widths = new float[0];
+    private int[] counts = new int[0];
+    private VertexBuffer vbo;
+    private int list = -1;
+
+    public boolean isCurrent(long version) {
+        return this.version == version;
+    }
+
+    public void begin(BlockPos origin) {
+        this.quads.vertices = 0;
+        this.lines.clear();
+        this.originX = (double) origin.x;
+        this.originY = (double) origin.y;
+        this.originZ = (double) origin.z;
+    }
+
+    public void box(double x, double y, double z, double w, double h, double d, int argb, int sides) {
+        this.quads.box((float) (x - this.originX), (float) (y - this.originY), (float) (z - this.originZ), (float) (x + w - this.originX), (float) (y + h - this.originY), (float) (z + d - this.originZ), argb, sides);
+    }
+
+    public void outline(double x, double y, double z, double w, double h, double d, float width, int argb) {
+        RiftRenderer.lines(this.lines, width).outline((float) (x - this.originX), (float) (y - this.originY), (float) (z - this.originZ), (float) (x + w - this.originX), (float) (y + h - this.originY), (float) (z + d - this.originZ), argb);
+    }
+
+    public void bottomOutline(BlockPos blockPos, float width, int argb) {
+        float x = (float) ((double) blockPos.x - this.originX);
+        float z = (float) ((double) blockPos.z - this.originZ);
+
+        RiftRenderer.lines(this.lines, width).bottomOutline(x, (float) ((double) blockPos.y - this.originY), z, x + 1.0F, z + 1.0F, argb);
+    }
+
+    public void upload(long version) {
+        if (RetainedGeometry.upload == null) {
+            RetainedGeometry.upload = new BufferBuilder(262144);
+        }
+
+        BufferBuilder buffer = RetainedGeometry.upload;
+
+        buffer.begin(7, DefaultVertexFormats.POSITION_COLOR);
+        this.quads.write(buffer);
+        this.quadCount = this.quads.vertices;
+        this.widths = new float[this.lines.size()];
+        this.counts = new int[this.lines.size()];
+        Iterator iterator = this.lines.entrySet().iterator();
+
+        for (int i = 0; iterator.hasNext(); ++i) {
+            Entry entry = (Entry) iterator.next();
+            RiftRenderer.Batch batch = (RiftRenderer.Batch) entry.getValue();
+
+            batch.write(buffer);
+            this.widths[i] = ((Float) entry.getKey()).floatValue();
+            this.counts[i] = batch.vertices;
+        }
+
+        buffer.finishDrawing();
+        ByteBuffer data = buffer.getByteBuffer();
+
+        if (OpenGlHelper.useVbo()) {
+            if (this.list >= 0) {
+                GLAllocation.deleteDisplayLists(this.list);
+                this.list = -1;
+            }
+
+            if (this.vbo == null) {
+                this.vbo = new VertexBuffer(DefaultVertexFormats.POSITION_COLOR);
+            }
+
+            this.vbo.bufferData(data);
+        } else {
+            if (this.vbo != null) {
+                this.vbo.deleteGlBuffers();
+                this.vbo = null;
+            }
+
+            if (this.list < 0) {
+                this.list = GLAllocation.generateDisplayLists(1);
+            }
+
+            GlStateManager.glNewList(this.list, 4864);
+            GlStateManager.glVertexPointer(3, 5126, 16, data);
+            data.position(12);
+            GlStateManager.glColorPointer(4, 5121, 16, data);
+            data.position(0);
+            this.drawArrays();
+            GlStateManager.glEndList();
+        }
+
+        this.quads.vertices = 0;
+        this.lines.clear();
+        this.version = version;
+    }
+
+    void draw(double renderX, double renderY, double renderZ) {
+        if (this.vbo != null || this.list >= 0) {
+            GlStateManager.pushMatrix();
+            GlStateManager.translate(this.originX - renderX, this.originY - renderY, this.originZ - renderZ);
+            if (this.vbo != null) {
+                this.vbo.bindBuffer();
+                GlStateManager.glVertexPointer(3, 5126, 16, 0);
+                GlStateManager.glColorPointer(4, 5121, 16, 12);
+                this.drawArrays();
+                this.vbo.unbindBuffer();
+            } else {
+                GlStateManager.callList(this.list);
+            }
+
+            GlStateManager.popMatrix();
+            GlStateManager.resetColor();
+        }
+    }
+
+    private void drawArrays() {
+        GlStateManager.glEnableClientState(32884);
+        GlStateManager.glEnableClientState(32886);
+        if (this.quadCount > 0) {
+            GlStateManager.glDrawArrays(7, 0, this.quadCount);
+        }
+
+        int first = this.quadCount;
+
+        for (int i = 0; i < this.widths.length; ++i) {
+            GL11.glLineWidth(this.widths[i]);
+            GlStateManager.glDrawArrays(1, first, this.counts[i]);
+            first += this.counts[i];
+        }
+
+        GlStateManager.glDisableClientState(32884);
+        GlStateManager.glDisableClientState(32886);
+    }
+
+    public void delete() {
+        if (this.vbo != null) {
+            this.vbo.deleteGlBuffers();
+            this.vbo = null;
+        }
+
+        if (this.list >= 0) {
+            GLAllocation.deleteDisplayLists(this.list);
+            this.list = -1;
+        }
+
+        this.version = Long.MIN_VALUE;
+    }
+}
@@ -1,10 +1,14 @@
 package live.rift.util;
 
-import java.awt.Color;
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
-import live.rift.RiftMod;
+import java.util.TreeMap;
+import java.util.Map.Entry;
+import live.rift.module.modules.hud.GUI;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.BufferBuilder;
 import net.minecraft.client.renderer.GlStateManager;
@@ -25,6 +29,12 @@ public class RiftRenderer extends Tessellator {
     public static RiftRenderer INSTANCE = new RiftRenderer();
     public static final HashMap FACEMAP = new HashMap();
     static RainbowUtil rutil;
+    private static final RiftRenderer.Batch QUADS = new RiftRenderer.Batch();
+    private static final TreeMap LINES = new TreeMap();
+    private static final List RETAINED = new ArrayList();
+    private static double batchX;
+    private static double batchY;
+    private static double batchZ;
 
     public RiftRenderer() {
         super(2097152);
@@ -97,6 +107,94 @@ public class RiftRenderer extends Tessellator {
         GL11.glPopMatrix();
     }
 
+    public static void beginBatch(Vec3d renderPos) {
+        RiftRenderer.batchX = renderPos.x;
+        RiftRenderer.batchY = renderPos.y;
+        RiftRenderer.batchZ = renderPos.z;
+    }
+
+    public static void submitBox(BlockPos blockPos, int argb, int sides) {
+        submitBox((double) blockPos.x, (double) blockPos.y, (double) blockPos.z, 1.0D, 1.0D, 1.0D, argb, sides);
+    }
+
+    public static void submitBox(AxisAlignedBB bb, int argb, int sides) {
+        submitBox(bb.minX, bb.minY, bb.minZ, bb.maxX - bb.minX, bb.maxY - bb.minY, bb.maxZ - bb.minZ, argb, sides);
+    }
+
+    public static void submitBox(double x, double y, double z, double w, double h, double d, int argb, int sides) {
+        RiftRenderer.QUADS.box((float) (x - RiftRenderer.batchX), (float) (y - RiftRenderer.batchY), (float) (z - RiftRenderer.batchZ), (float) (x + w - RiftRenderer.batchX), (float) (y + h - RiftRenderer.batchY), (float) (z + d - RiftRenderer.batchZ), argb, sides);
+    }
+
+    public static void submitOutline(BlockPos blockPos, float width, int argb) {
+        submitOutline((double) blockPos.x, (double) blockPos.y, (double) blockPos.z, 1.0D, 1.0D, 1.0D, width, argb);
+    }
+
+    public static void submitOutline(double x, double y, double z, double w, double h, double d, float width, int argb) {
+        lines(RiftRenderer.LINES, width).outline((float) (x - RiftRenderer.batchX), (float) (y - RiftRenderer.batchY), (float) (z - RiftRenderer.batchZ), (float) (x + w - RiftRenderer.batchX), (float) (y + h - RiftRenderer.batchY), (float) (z + d - RiftRenderer.batchZ), argb);
+    }
+
+    public static void submitBottomOutline(BlockPos blockPos, float width, int argb) {
+        float x = (float) ((double) blockPos.x - RiftRenderer.batchX);
+        float z = (float) ((double) blockPos.z - RiftRenderer.batchZ);
+
+        lines(RiftRenderer.LINES, width).bottomOutline(x, (float) ((double) blockPos.y - RiftRenderer.batchY), z, x + 1.0F, z + 1.0F, argb);
+    }
+
+    public static void submitRetained(RetainedGeometry geometry) {
+        RiftRenderer.RETAINED.add(geometry);
+    }
+
+    static RiftRenderer.Batch lines(TreeMap lines, float width) {
+        Float key = Float.valueOf(width);
+        RiftRenderer.Batch batch = (RiftRenderer.Batch) lines.get(key);
+
+        if (batch == null) {
+            batch = new RiftRenderer.Batch();
+            lines.put(key, batch);
+        }
+
+        return batch;
+    }
+
+    public static void flushBatch() {
+        boolean empty = RiftRenderer.QUADS.vertices == 0 && RiftRenderer.RETAINED.isEmpty();
+        Iterator iterator = RiftRenderer.LINES.values().iterator();
+
+        while (iterator.hasNext()) {
+            if (((RiftRenderer.Batch) iterator.next()).vertices == 0) {
+                iterator.remove();
+            } else {
+                empty = false;
+            }
+        }
+
+        if (!empty) {
+            RiftRenderer.INSTANCE.getBuffer().setTranslation(0.0D, 0.0D, 0.0D);
+            prepareGL();
+            GL11.glEnable(2848);
+            GL11.glHint(3154, 4354);
+
+            for (int i = 0; i < RiftRenderer.RETAINED.size(); ++i) {
+                ((RetainedGeometry) RiftRenderer.RETAINED.get(i)).draw(RiftRenderer.batchX, RiftRenderer.batchY, RiftRenderer.batchZ);
+            }
+
+            RiftRenderer.RETAINED.clear();
+            RiftRenderer.QUADS.draw(7);
+            iterator = RiftRenderer.LINES.entrySet().iterator();
+
+            while (iterator.hasNext()) {
+                Entry entry = (Entry) iterator.next();
+
+                GlStateManager.glLineWidth(((Float) entry.getKey()).floatValue());
+                ((RiftRenderer.Batch) entry.getValue()).draw(1);
+            }
+
+            GL11.glDisable(2848);
+            GlStateManager.glLineWidth(1.0F);
+            releaseGL();
+        }
+    }
+
     public static void drawBox(BlockPos blockPos, int argb, int sides) {
         int a = argb >>> 24 & 255;
         int r = argb >>> 16 & 255;
@@ -294,32 +392,32 @@ public class RiftRenderer extends Tessellator {
     }
 
     public static void drawOutlinedBox(AxisAlignedBB axisAlignedBB) {
-        GL11.glBegin(1);
-        GL11.glVertex3d(axisAlignedBB.minX, axisAlignedBB.minY, axisAlignedBB.minZ);
-        GL11.glVertex3d(axisAlignedBB.maxX, axisAlignedBB.minY, axisAlignedBB.minZ);
-        GL11.glVertex3d(axisAlignedBB.maxX, axisAlignedBB.minY, axisAlignedBB.minZ);
-        GL11.glVertex3d(axisAlignedBB.maxX, axisAlignedBB.minY, axisAlignedBB.maxZ);
-        GL11.glVertex3d(axisAlignedBB.maxX, axisAlignedBB.minY, axisAlignedBB.maxZ);
-        GL11.glVertex3d(axisAlignedBB.minX, axisAlignedBB.minY, axisAlignedBB.maxZ);
-        GL11.glVertex3d(axisAlignedBB.minX, axisAlignedBB.minY, axisAlignedBB.maxZ);
-        GL11.glVertex3d(axisAlignedBB.minX, axisAlignedBB.minY, axisAlignedBB.minZ);
-        GL11.glVertex3d(axisAlignedBB.minX, axisAlignedBB.minY, axisAlignedBB.minZ);
-        GL11.glVertex3d(axisAlignedBB.minX, axisAlignedBB.maxY, axisAlignedBB.minZ);
-        GL11.glVertex3d(axisAlignedBB.maxX, axisAlignedBB.minY, axisAlignedBB.minZ);
-        GL11.glVertex3d(axisAlignedBB.maxX, axisAlignedBB.maxY, axisAlignedBB.minZ);
-        GL11.glVertex3d(axisAlignedBB.maxX, axisAlignedBB.minY, axisAlignedBB.maxZ);
-        GL11.glVertex3d(axisAlignedBB.maxX, axisAlignedBB.maxY, axisAlignedBB.maxZ);
-        GL11.glVertex3d(axisAlignedBB.minX, axisAlignedBB.minY, axisAlignedBB.maxZ);
-        GL11.glVertex3d(axisAlignedBB.minX, axisAlignedBB.maxY, axisAlignedBB.maxZ);
-        GL11.glVertex3d(axisAlignedBB.minX, axisAlignedBB.maxY, axisAlignedBB.minZ);
-        GL11.glVertex3d(axisAlignedBB.maxX, axisAlignedBB.maxY, axisAlignedBB.minZ);
-        GL11.glVertex3d(axisAlignedBB.maxX, axisAlignedBB.maxY, axisAlignedBB.minZ);
-        GL11.glVertex3d(axisAlignedBB.maxX, axisAlignedBB.maxY, axisAlignedBB.maxZ);
-        GL11.glVertex3d(axisAlignedBB.maxX, axisAlignedBB.maxY, axisAlignedBB.maxZ);
-        GL11.glVertex3d(axisAlignedBB.minX, axisAlignedBB.maxY, axisAlignedBB.maxZ);
-        GL11.glVertex3d(axisAlignedBB.minX, axisAlignedBB.maxY, axisAlignedBB.maxZ);
-        GL11.glVertex3d(axisAlignedBB.minX, axisAlignedBB.maxY, axisAlignedBB.minZ);
-        GL11.glEnd();
+        ShapeBuffer.begin(1);
+        ShapeBuffer.vertex(axisAlignedBB.minX, axisAlignedBB.minY, axisAlignedBB.minZ);
+        ShapeBuffer.vertex(axisAlignedBB.maxX, axisAlignedBB.minY, axisAlignedBB.minZ);
+        ShapeBuffer.vertex(axisAlignedBB.maxX, axisAlignedBB.minY, axisAlignedBB.minZ);
+        ShapeBuffer.vertex(axisAlignedBB.maxX, axisAlignedBB.minY, axisAlignedBB.maxZ);
+        ShapeBuffer.vertex(axisAlignedBB.maxX, axisAlignedBB.minY, axisAlignedBB.maxZ);
+        ShapeBuffer.vertex(axisAlignedBB.minX, axisAlignedBB.minY, axisAlignedBB.maxZ);
+        ShapeBuffer.vertex(axisAlignedBB.minX, axisAlignedBB.minY, axisAlignedBB.maxZ);
+        ShapeBuffer.vertex(axisAlignedBB.minX, axisAlignedBB.minY, axisAlignedBB.minZ);
+        ShapeBuffer.vertex(axisAlignedBB.minX, axisAlignedBB.minY, axisAlignedBB.minZ);
+        ShapeBuffer.vertex(axisAlignedBB.minX, axisAlignedBB.maxY, axisAlignedBB.minZ);
+        ShapeBuffer.vertex(axisAlignedBB.maxX, axisAlignedBB.minY, axisAlignedBB.minZ);
+        ShapeBuffer.vertex(axisAlignedBB.maxX, axisAlignedBB.maxY, axisAlignedBB.minZ);
+        ShapeBuffer.vertex(axisAlignedBB.maxX, axisAlignedBB.minY, axisAlignedBB.maxZ);
+        ShapeBuffer.vertex(axisAlignedBB.maxX, axisAlignedBB.maxY, axisAlignedBB.maxZ);
+        ShapeBuffer.vertex(axisAlignedBB.minX, axisAlignedBB.minY, axisAlignedBB.maxZ);
+        ShapeBuffer.vertex(axisAlignedBB.minX, axisAlignedBB.maxY, axisAlignedBB.maxZ);
+        ShapeBuffer.vertex(axisAlignedBB.minX, axisAlignedBB.maxY, axisAlignedBB.minZ);
+        ShapeBuffer.vertex(axisAlignedBB.maxX, axisAlignedBB.maxY, axisAlignedBB.minZ);
+        ShapeBuffer.vertex(axisAlignedBB.maxX, axisAlignedBB.maxY, axisAlignedBB.minZ);
+        ShapeBuffer.vertex(axisAlignedBB.maxX, axisAlignedBB.maxY, axisAlignedBB.maxZ);
+        ShapeBuffer.vertex(axisAlignedBB.maxX, axisAlignedBB.maxY, axisAlignedBB.maxZ);
+        ShapeBuffer.vertex(axisAlignedBB.minX, axisAlignedBB.maxY, axisAlignedBB.maxZ);
+        ShapeBuffer.vertex(axisAlignedBB.minX, axisAlignedBB.maxY, axisAlignedBB.maxZ);
+        ShapeBuffer.vertex(axisAlignedBB.minX, axisAlignedBB.maxY, axisAlignedBB.minZ);
+        ShapeBuffer.end();
     }
 
     public static void drawBoundingBox(double x, double y, double z, double w, double l, double h, float width, int r, int g, int b, int alpha) {
@@ -720,10 +818,10 @@ public class RiftRenderer extends Tessellator {
         boolean color = true;
         int color1;
 
-        if (RiftMod.setmgr.getSettingByMod("Rainbow", RiftMod.fevents.moduleManager.getModule("Gui")).getValBoolean()) {
+        if (GUI.INSTANCE.rainbow.getValBoolean()) {
             color1 = RiftRenderer.rutil.GetRainbowColorAt(index);
         } else {
-            color1 = (new Color((int) RiftMod.setmgr.getSettingByNameMod("Red", "Gui").getValDouble(), (int) RiftMod.setmgr.getSettingByNameMod("Green", "Gui").getValDouble(), (int) RiftMod.setmgr.getSettingByNameMod("Blue", "Gui").getValDouble())).getRGB();
+            color1 = GUI.INSTANCE.getRGB();
         }
 
         return color1;
@@ -740,30 +838,24 @@ public class RiftRenderer extends Tessellator {
         g /= 255.0F;
         b /= 255.0F;
         GL11.glColor4f(r, g, b, 0.5F);
-        GL11.glBegin(2);
-        GL11.glVertex2d((double) (-e.width), 0.0D);
-        GL11.glVertex2d((double) (-e.width), (double) (e.height / 3.0F));
-        GL11.glVertex2d((double) (-e.width), 0.0D);
-        GL11.glVertex2d((double) (-e.width / 3.0F * 2.0F), 0.0D);
-        GL11.glEnd();
-        GL11.glBegin(2);
-        GL11.glVertex2d((double) (-e.width), (double) e.height);
-        GL11.glVertex2d((double) (-e.width / 3.0F * 2.0F), (double) e.height);
-        GL11.glVertex2d((double) (-e.width), (double) e.height);
-        GL11.glVertex2d((double) (-e.width), (double) (e.height / 3.0F * 2.0F));
-        GL11.glEnd();
-        GL11.glBegin(2);
-        GL11.glVertex2d((double) e.width, (double) e.height);
-        GL11.glVertex2d((double) (e.width / 3.0F * 2.0F), (double) e.height);
-        GL11.glVertex2d((double) e.width, (double) e.height);
-        GL11.glVertex2d((double) e.width, (double) (e.height / 3.0F * 2.0F));
-        GL11.glEnd();
-        GL11.glBegin(2);
-        GL11.glVertex2d((double) e.width, 0.0D);
-        GL11.glVertex2d((double) (e.width / 3.0F * 2.0F), 0.0D);
-        GL11.glVertex2d((double) e.width, 0.0D);
-        GL11.glVertex2d((double) e.width, (double) (e.height / 3.0F));
-        GL11.glEnd();
+        ShapeBuffer.begin(1);
+        ShapeBuffer.vertex((double) (-e.width), 0.0D);
+        ShapeBuffer.vertex((double) (-e.width), (double) (e.height / 3.0F));
+        ShapeBuffer.vertex((double) (-e.width), 0.0D);
+        ShapeBuffer.vertex((double) (-e.width / 3.0F * 2.0F), 0.0D);
+        ShapeBuffer.vertex((double) (-e.width), (double) e.height);
+        ShapeBuffer.vertex((double) (-e.width / 3.0F * 2.0F), (double) e.height);
+        ShapeBuffer.vertex((double) (-e.width), (double) e.height);
+        ShapeBuffer.vertex((double) (-e.width), (double) (e.height / 3.0F * 2.0F));
+        ShapeBuffer.vertex((double) e.width, (double) e.height);
+        ShapeBuffer.vertex((double) (e.width / 3.0F * 2.0F), (double) e.height);
+        ShapeBuffer.vertex((double) e.width, (double) e.height);
+        ShapeBuffer.vertex((double) e.width, (double) (e.height / 3.0F * 2.0F));
+        ShapeBuffer.vertex((double) e.width, 0.0D);
+        ShapeBuffer.vertex((double) (e.width / 3.0F * 2.0F), 0.0D);
+        ShapeBuffer.vertex((double) e.width, 0.0D);
+        ShapeBuffer.vertex((double) e.width, (double) (e.height / 3.0F));
+        ShapeBuffer.end();
     }
 
     static {
@@ -776,6 +868,118 @@ public class RiftRenderer extends Tessellator {
         RiftRenderer.rutil = new RainbowUtil(9);
     }
 
+    static class Batch {
+
+        float[] positions = new float[3072];
+        int[] colors = new int[1024];
+        int vertices;
+
+        void vertex(float x, float y, float z, int argb) {
+            if (this.vertices == this.colors.length) {
+                float[] positions = new float[this.positions.length * 2];
+                int[] colors = new int[this.colors.length * 2];
+
+                System.arraycopy(this.positions, 0, positions, 0, this.vertices * 3);
+                System.arraycopy(this.colors, 0, colors, 0, this.vertices);
+                this.positions = positions;
+                this.colors = colors;
+            }
+
+            int i = this.vertices * 3;
+
+            this.positions[i] = x;
+            this.positions[i + 1] = y;
+            this.positions[i + 2] = z;
+            this.colors[this.vertices++] = argb;
+        }
+
+        void line(float x, float y, float z, float x1, float y1, float z1, int argb) {
+            this.vertex(x, y, z, argb);
+            this.vertex(x1, y1, z1, argb);
+        }
+
+        void box(float x0, float y0, float z0, float x1, float y1, float z1, int argb, int sides) {
+            if ((sides & 1) != 0) {
+                this.vertex(x1, y0, z0, argb);
+                this.vertex(x1, y0, z1, argb);
+                this.vertex(x0, y0, z1, argb);
+                this.vertex(x0, y0, z0, argb);
+            }
+
+            if ((sides & 2) != 0) {
+                this.vertex(x1, y1, z0, argb);
+                this.vertex(x0, y1, z0, argb);
+                this.vertex(x0, y1, z1, argb);
+                this.vertex(x1, y1, z1, argb);
+            }
+
+            if ((sides & 4) != 0) {
+                this.vertex(x1, y0, z0, argb);
+                this.vertex(x0, y0, z0, argb);
+                this.vertex(x0, y1, z0, argb);
+                this.vertex(x1, y1, z0, argb);
+            }
+
+            if ((sides & 8) != 0) {
+                this.vertex(x0, y0, z1, argb);
+                this.vertex(x1, y0, z1, argb);
+                this.vertex(x1, y1, z1, argb);
+                this.vertex(x0, y1, z1, argb);
+            }
+
+            if ((sides & 16) != 0) {
+                this.vertex(x0, y0, z0, argb);
+                this.vertex(x0, y0, z1, argb);
+                this.vertex(x0, y1, z1, argb);
+                this.vertex(x0, y1, z0, argb);
+            }
+
+            if ((sides & 32) != 0) {
+                this.vertex(x1, y0, z1, argb);
+                this.vertex(x1, y0, z0, argb);
+                this.vertex(x1, y1, z0, argb);
+                this.vertex(x1, y1, z1, argb);
+            }
+
+        }
+
+        void outline(float x0, float y0, float z0, float x1, float y1, float z1, int argb) {
+            this.bottomOutline(x0, y0, z0, x1, z1, argb);
+            this.bottomOutline(x0, y1, z0, x1, z1, argb);
+            this.line(x0, y0, z0, x0, y1, z0, argb);
+            this.line(x1, y0, z0, x1, y1, z0, argb);
+            this.line(x1, y0, z1, x1, y1, z1, argb);
+            this.line(x0, y0, z1, x0, y1, z1, argb);
+        }
+
+        void bottomOutline(float x0, float y, float z0, float x1, float z1, int argb) {
+            this.line(x0, y, z0, x0, y, z1, argb);
+            this.line(x0, y, z1, x1, y, z1, argb);
+            this.line(x1, y, z1, x1, y, z0, argb);
+            this.line(x1, y, z0, x0, y, z0, argb);
+        }
+
+        void write(BufferBuilder buffer) {
+            for (int i = 0; i < this.vertices; ++i) {
+                int argb = this.colors[i];
+
+                buffer.pos((double) this.positions[i * 3], (double) this.positions[i * 3 + 1], (double) this.positions[i * 3 + 2]).color(argb >>> 16 & 255, argb >>> 8 & 255, argb & 255, argb >>> 24 & 255).endVertex();
+            }
+
+        }
+
+        void draw(int mode) {
+            if (this.vertices != 0) {
+                BufferBuilder buffer = RiftRenderer.INSTANCE.getBuffer();
+
+                buffer.begin(mode, DefaultVertexFormats.POSITION_COLOR);
+                this.write(buffer);
+                RiftRenderer.INSTANCE.draw();
+                this.vertices = 0;
+            }
+        }
+    }
+
     public static final class Line {
 
         public static final int DOWN_WEST = 17;
@@ -0,0 +1,121 @@
+package live.rift.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import net.minecraft.client.renderer.BufferBuilder;
+import net.minecraft.client.renderer.Tessellator;
+import net.minecraft.client.renderer.vertex.DefaultVertexFormats;
+
+public class ShapeBuffer {
+
+    private static final Tessellator TESSELLATOR = new Tessellator(262144);
+    private static final Map CIRCLES = new HashMap();
+    private static boolean colored;
+    private static int color = -1;
+    private static int primitiveVertices;
+    private static int draws;
+    private static int vertices;
+    private static int estimatedImmediateCalls;
+    private static int estimatedBufferedCalls;
+    private static int lastDraws;
+    private static int lastVertices;
+    private static int lastEstimatedImmediateCalls;
+    private static int lastEstimatedBufferedCalls;
+
+    public static void begin(int mode) {
+        ShapeBuffer.colored = false;
+        ShapeBuffer.primitiveVertices = 0;
+        ShapeBuffer.TESSELLATOR.getBuffer().begin(mode, DefaultVertexFormats.POSITION);
+    }
+
+    public static void beginColored(int mode) {
+        ShapeBuffer.colored = true;
+        ShapeBuffer.primitiveVertices = 0;
+        ShapeBuffer.TESSELLATOR.getBuffer().begin(mode, DefaultVertexFormats.POSITION_COLOR);
+    }
+
+    public static void color(int argb) {
+        ShapeBuffer.color = argb;
+        ++ShapeBuffer.estimatedImmediateCalls;
+    }
+
+    public static void vertex(double x, double y) {
+        vertex(x, y, 0.0D);
+    }
+
+    public static void vertex(double x, double y, double z) {
+        BufferBuilder buffer = ShapeBuffer.TESSELLATOR.getBuffer();
+
+        buffer.pos(x, y, z);
+        if (ShapeBuffer.colored) {
+            buffer.color(ShapeBuffer.color >>> 16 & 255, ShapeBuffer.color >>> 8 & 255, ShapeBuffer.color & 255, ShapeBuffer.color >>> 24 & 255);
+        }
+
+        buffer.endVertex();
+        ++ShapeBuffer.primitiveVertices;
+    }
+
+    public static void circle(double x, double y, double radius, int segments, int points) {
+        float[] table = circle(segments);
+
+        for (int i = 0; i < points; ++i) {
+            vertex(x + (double) table[i * 2] * radius, y + (double) table[i * 2 + 1] * radius);
+        }
+
+    }
+
+    public static float[] circle(int segments) {
+        Integer key = Integer.valueOf(segments);
+        float[] table = (float[]) ShapeBuffer.CIRCLES.get(key);
+
+        if (table == null) {
+            table = new float[(segments + 1) * 2];
+
+            for (int i = 0; i <= segments; ++i) {
+                double angle = 6.283185307179586D * (double) i / (double) segments;
+
+                table[i * 2] = (float) Math.sin(angle);
+                table[i * 2 + 1] = (float) Math.cos(angle);
+            }
+
+            ShapeBuffer.CIRCLES.put(key, table);
+        }
+
+        return table;
+    }
+
+    public static void end() {
+        ShapeBuffer.TESSELLATOR.draw();
+        ++ShapeBuffer.draws;
+        ShapeBuffer.vertices += ShapeBuffer.primitiveVertices;
+        ShapeBuffer.estimatedImmediateCalls += ShapeBuffer.primitiveVertices + 2;
+        ShapeBuffer.estimatedBufferedCalls += ShapeBuffer.colored ? 7 : 4;
+    }
+
+    public static void nextFrame() {
+        ShapeBuffer.lastDraws = ShapeBuffer.draws;
+        ShapeBuffer.lastVertices = ShapeBuffer.vertices;
+        ShapeBuffer.lastEstimatedImmediateCalls = ShapeBuffer.estimatedImmediateCalls;
+        ShapeBuffer.lastEstimatedBufferedCalls = ShapeBuffer.estimatedBufferedCalls;
+        ShapeBuffer.draws = 0;
+        ShapeBuffer.vertices = 0;
+        ShapeBuffer.estimatedImmediateCalls = 0;
+        ShapeBuffer.estimatedBufferedCalls = 0;
+    }
+
+    public static int getDraws() {
+        return ShapeBuffer.lastDraws;
+    }
+
+    public static int getVertices() {
+        return ShapeBuffer.lastVertices;
+    }
+
+    public static int getEstimatedImmediateCalls() {
+        return ShapeBuffer.lastEstimatedImmediateCalls;
+    }
+
+    public static int getEstimatedBufferedCalls() {
+        return ShapeBuffer.lastEstimatedBufferedCalls;
+    }
+}
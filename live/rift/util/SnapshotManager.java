@@ -0,0 +1,41 @@
+package live.rift.util;
+
+import live.rift.RiftMod;
+import net.minecraft.client.Minecraft;
+import net.minecraft.util.math.BlockPos;
+
+public class SnapshotManager {
+
+    public static final int MAX_RADIUS = 16;
+    static Minecraft mc = Minecraft.getMinecraft();
+    private volatile WorldSnapshot snapshot;
+    private int requested;
+    private long tick;
+
+    public static SnapshotManager Get() {
+        return RiftMod.GetSnapshotManager();
+    }
+
+    public void request(int radius) {
+        this.requested = Math.max(this.requested, Math.min(radius, SnapshotManager.MAX_RADIUS));
+    }
+
+    public WorldSnapshot getSnapshot() {
+        return this.snapshot;
+    }
+
+    public void update() {
+        int radius = this.requested;
+
+        this.requested = 0;
+        ++this.tick;
+        if (SnapshotManager.mc.world != null && SnapshotManager.mc.player != null && radius > 0) {
+            BlockPos center = new BlockPos(Math.floor(SnapshotManager.mc.player.posX), Math.floor(SnapshotManager.mc.player.posY), Math.floor(SnapshotManager.mc.player.posZ));
+
+            this.snapshot = WorldSnapshot.capture(SnapshotManager.mc.world, center, radius, this.tick);
+        } else {
+            this.snapshot = null;
+        }
+
+    }
+}
@@ -0,0 +1,242 @@
+package live.rift.util;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import net.minecraft.client.Minecraft;
+import org.spongepowered.asm.mixin.MixinEnvironment;
+import org.spongepowered.asm.util.perf.Profiler.Section;
+
+public class StartupTracer {
+
+    public static final boolean TRACE_MIXINS = Boolean.getBoolean("rift.trace");
+    private static final int MAX_TRACES = 10;
+    private static final long ORIGIN_NANOS = System.nanoTime();
+    private static final long ORIGIN_MICROS = (System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime()) * 1000L;
+    private static final ConcurrentLinkedQueue events = new ConcurrentLinkedQueue();
+    private static volatile boolean finished;
+
+    public static StartupTracer.Span begin(String name) {
+        return new StartupTracer.Span(name, StartupTracer.now());
+    }
+
+    public static void instant(String name) {
+        if (!StartupTracer.finished) {
+            StartupTracer.events.add(new StartupTracer.Event(name, "rift", "i", StartupTracer.now(), 0L, Thread.currentThread()));
+        }
+
+    }
+
+    public static boolean isFinished() {
+        return StartupTracer.finished;
+    }
+
+    public static void finish() {
+        if (!StartupTracer.finished) {
+            StartupTracer.instant("title screen");
+            StartupTracer.finished = true;
+            ArrayList all = new ArrayList(StartupTracer.events);
+
+            StartupTracer.events.clear();
+            if (StartupTracer.TRACE_MIXINS) {
+                StartupTracer.addMixinSections(all);
+            }
+
+            File file = StartupTracer.write(all);
+
+            if (file != null) {
+                System.out.println("[Rift] Startup trace written to " + file.getAbsolutePath());
+            }
+
+        }
+    }
+
+    private static long now() {
+        return StartupTracer.ORIGIN_MICROS + (System.nanoTime() - StartupTracer.ORIGIN_NANOS) / 1000L;
+    }
+
+    private static void addMixinSections(List all) {
+        StartupTracer.Node roots = new StartupTracer.Node();
+        Iterator iterator = MixinEnvironment.getProfiler().getSections().iterator();
+
+        while (iterator.hasNext()) {
+            Section section = (Section) iterator.next();
+            String name = section.getName();
+
+            if (name.indexOf(" -> ") < 0 && section.getTotalTime() > 0L) {
+                StartupTracer.Node node = roots;
+                String[] path = name.split("\\.");
+
+                for (int i = 0; i < path.length; ++i) {
+                    StartupTracer.Node child = (StartupTracer.Node) node.get(path[i]);
+
+                    if (child == null) {
+                        child = new StartupTracer.Node();
+                        node.put(path[i], child);
+                    }
+
+                    node = child;
+                }
+
+                node.section = section;
+            }
+        }
+
+        StartupTracer.layout(all, roots, 0L);
+    }
+
+    private static long layout(List all, Map nodes, long start) {
+        long offset = start;
+        Iterator iterator = nodes.values().iterator();
+
+        while (iterator.hasNext()) {
+            StartupTracer.Node node = (StartupTracer.Node) iterator.next();
+            long end = StartupTracer.layout(all, node, offset);
+
+            if (node.section != null) {
+                long duration = node.section.getTotalTime() * 1000L;
+                StartupTracer.Event event = new StartupTracer.Event(node.section.getName(), "mixin", "X", offset, duration, (Thread) null);
+
+                event.args = "{\"count\":" + node.section.getTotalCount() + ",\"aggregate\":true}";
+                all.add(event);
+                end = Math.max(end, offset + duration);
+            }
+
+            offset = end;
+        }
+
+        return offset;
+    }
+
+    private static File write(List all) {
+        File dir = new File(Minecraft.getMinecraft().gameDir.getAbsolutePath(), File.separator + "RiftMod" + File.separator + "traces" + File.separator);
+
+        if (!dir.exists()) {
+            dir.mkdirs();
+        }
+
+        File file = new File(dir, "startup-" + (new SimpleDateFormat("yyyyMMdd-HHmmss")).format(new Date()) + ".json");
+
+        try {
+            Writer writer = new FileWriter(file);
+
+            try {
+                writer.write("{\"displayTimeUnit\":\"ms\",\"traceEvents\":[\n");
+                writer.write("{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":1,\"tid\":0,\"args\":{\"name\":\"Mixin profiler (aggregated)\"}}");
+                ArrayList threads = new ArrayList();
+                Iterator iterator = all.iterator();
+
+                while (iterator.hasNext()) {
+                    StartupTracer.Event event = (StartupTracer.Event) iterator.next();
+
+                    if (event.tid != 0L && !threads.contains(Long.valueOf(event.tid))) {
+                        threads.add(Long.valueOf(event.tid));
+                        writer.write(",\n{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":1,\"tid\":" + event.tid + ",\"args\":{\"name\":\"" + StartupTracer.escape(event.thread) + "\"}}");
+                    }
+
+                    writer.write(",\n{\"name\":\"" + StartupTracer.escape(event.name) + "\",\"cat\":\"" + event.category + "\",\"ph\":\"" + event.phase + "\",\"ts\":" + event.start + ",\"pid\":1,\"tid\":" + event.tid);
+                    if (event.phase.equals("X")) {
+                        writer.write(",\"dur\":" + event.duration);
+                    } else {
+                        writer.write(",\"s\":\"t\"");
+                    }
+
+                    if (event.args != null) {
+                        writer.write(",\"args\":" + event.args);
+                    }
+
+                    writer.write("}");
+                }
+
+                writer.write("\n]}\n");
+            } finally {
+                writer.close();
+            }
+        } catch (IOException ioexception) {
+            ioexception.printStackTrace();
+            return null;
+        }
+
+        StartupTracer.prune(dir);
+        return file;
+    }
+
+    private static void prune(File dir) {
+        File[] files = dir.listFiles((file, name) -> {
+            return name.startsWith("startup-") && name.endsWith(".json");
+        });
+
+        if (files != null && files.length > StartupTracer.MAX_TRACES) {
+            List list = Arrays.asList(files);
+
+            Collections.sort(list);
+            for (int i = 0; i < files.length - StartupTracer.MAX_TRACES; ++i) {
+                ((File) list.get(i)).delete();
+            }
+        }
+
+    }
+
+    private static String escape(String s) {
+        return s.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    public static class Span {
+
+        private final String name;
+        private final long start;
+        private boolean ended;
+
+        private Span(String name, long start) {
+            this.name = name;
+            this.start = start;
+        }
+
+        public void end() {
+            if (!this.ended && !StartupTracer.finished) {
+                this.ended = true;
+                StartupTracer.events.add(new StartupTracer.Event(this.name, "rift", "X", this.start, StartupTracer.now() - this.start, Thread.currentThread()));
+            }
+
+        }
+    }
+
+    private static class Event {
+
+        private final String name;
+        private final String category;
+        private final String phase;
+        private final long start;
+        private final long duration;
+        private final long tid;
+        private final String thread;
+        private String args;
+
+        private Event(String name, String category, String phase, long start, long duration, Thread thread) {
+            this.name = name;
+            this.category = category;
+            this.phase = phase;
+            this.start = start;
+            this.duration = duration;
+            this.tid = thread == null ? 0L : thread.getId();
+            this.thread = thread == null ? null : thread.getName();
+        }
+    }
+
+    private static class Node extends TreeMap {
+
+        private Section section;
+    }
+}
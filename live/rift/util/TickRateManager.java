@@ -15,9 +15,9 @@ public class TickRateManager {
     private float[] ticks = new float[20];
     private int currentTick;
     @EventHandler
-    private Listener PacketEvent = new Listener((p_Event) -> {
+    private Listener PacketEvent = new Listener(PacketEvent.Receive.class, (p_Event) -> {
         // $FF: Couldn't be decompiled
-    }, new Predicate[0]);
+    }, SPacketTimeUpdate.class, new Predicate[0]);
 
     public TickRateManager() {
         int i = 0;
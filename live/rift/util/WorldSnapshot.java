@@ -0,0 +1,209 @@
+package live.rift.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityLivingBase;
+import net.minecraft.init.Blocks;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+
+public class WorldSnapshot {
+
+    private final long tick;
+    private final BlockPos center;
+    private final int minX;
+    private final int minY;
+    private final int minZ;
+    private final int sizeX;
+    private final int sizeY;
+    private final int sizeZ;
+    private final IBlockState[] palette;
+    private final char[] blocks;
+    private final boolean[] loaded;
+    private final List entities;
+
+    private WorldSnapshot(long tick, BlockPos center, int minX, int minY, int minZ, int sizeX, int sizeY, int sizeZ, IBlockState[] palette, char[] blocks, boolean[] loaded, List entities) {
+        this.tick = tick;
+        this.center = center;
+        this.minX = minX;
+        this.minY = minY;
+        this.minZ = minZ;
+        this.sizeX = sizeX;
+        this.sizeY = sizeY;
+        this.sizeZ = sizeZ;
+        this.palette = palette;
+        this.blocks = blocks;
+        this.loaded = loaded;
+        this.entities = entities;
+    }
+
+    public static WorldSnapshot capture(World world, BlockPos center, int radius, long tick) {
+        int minX = center.x - radius;
+        int minY = Math.max(0, center.y - radius);
+        int minZ = center.z - radius;
+        int maxX = center.x + radius;
+        int maxY = Math.min(255, center.y + radius);
+        int maxZ = center.z + radius;
+        int sizeX = maxX - minX + 1;
+        int sizeY = Math.max(0, maxY - minY + 1);
+        int sizeZ = maxZ - minZ + 1;
+        ArrayList palette = new ArrayList();
+        HashMap ids = new HashMap();
+        char[] blocks = new char[sizeX * sizeY * sizeZ];
+        boolean[] loaded = new boolean[sizeX * sizeZ];
+
+        palette.add(Blocks.AIR.getDefaultState());
+        ids.put(Blocks.AIR.getDefaultState(), Integer.valueOf(0));
+
+        for (int cx = minX >> 4; cx <= maxX >> 4; ++cx) {
+            for (int cz = minZ >> 4; cz <= maxZ >> 4; ++cz) {
+                Chunk chunk = world.getChunkProvider().getLoadedChunk(cx, cz);
+
+                if (chunk != null) {
+                    int x0 = Math.max(minX, cx << 4);
+                    int x1 = Math.min(maxX, (cx << 4) + 15);
+                    int z0 = Math.max(minZ, cz << 4);
+                    int z1 = Math.min(maxZ, (cz << 4) + 15);
+
+                    for (int x = x0; x <= x1; ++x) {
+                        for (int z = z0; z <= z1; ++z) {
+                            loaded[(z - minZ) * sizeX + x - minX] = true;
+                        }
+                    }
+
+                    for (int sy = minY >> 4; sy <= maxY >> 4; ++sy) {
+                        ExtendedBlockStorage storage = chunk.getBlockStorageArray()[sy];
+
+                        if (storage != Chunk.NULL_BLOCK_STORAGE && !storage.isEmpty()) {
+                            int y0 = Math.max(minY, sy << 4);
+                            int y1 = Math.min(maxY, (sy << 4) + 15);
+
+                            for (int y = y0; y <= y1; ++y) {
+                                for (int z = z0; z <= z1; ++z) {
+                                    for (int x = x0; x <= x1; ++x) {
+                                        IBlockState state = storage.get(x & 15, y & 15, z & 15);
+                                        Integer id = (Integer) ids.get(state);
+
+                                        if (id == null) {
+                                            id = Integer.valueOf(palette.size());
+                                            palette.add(state);
+                                            ids.put(state, id);
+                                        }
+
+                                        blocks[((y - minY) * sizeZ + z - minZ) * sizeX + x - minX] = (char) id.intValue();
+                                    }
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        ArrayList entities = new ArrayList();
+        List found = world.getEntitiesWithinAABB(Entity.class, new AxisAlignedBB((double) minX, (double) minY, (double) minZ, (double) (maxX + 1), (double) (maxY + 1), (double) (maxZ + 1)));
+
+        for (int i = 0; i < found.size(); ++i) {
+            Entity entity = (Entity) found.get(i);
+
+            if (!entity.isDead) {
+                entities.add(new WorldSnapshot.Entry(entity));
+            }
+        }
+
+        return new WorldSnapshot(tick, center, minX, minY, minZ, sizeX, sizeY, sizeZ, (IBlockState[]) palette.toArray(new IBlockState[palette.size()]), blocks, loaded, Collections.unmodifiableList(entities));
+    }
+
+    public long getTick() {
+        return this.tick;
+    }
+
+    public BlockPos getCenter() {
+        return this.center;
+    }
+
+    public boolean contains(int x, int y, int z) {
+        return x >= this.minX && y >= this.minY && z >= this.minZ && x < this.minX + this.sizeX && y < this.minY + this.sizeY && z < this.minZ + this.sizeZ;
+    }
+
+    public boolean contains(BlockPos pos) {
+        return this.contains(pos.x, pos.y, pos.z);
+    }
+
+    public boolean isLoaded(int x, int z) {
+        return x >= this.minX && z >= this.minZ && x < this.minX + this.sizeX && z < this.minZ + this.sizeZ && this.loaded[(z - this.minZ) * this.sizeX + x - this.minX];
+    }
+
+    public IBlockState getBlockState(int x, int y, int z) {
+        return this.contains(x, y, z) ? this.palette[this.blocks[((y - this.minY) * this.sizeZ + z - this.minZ) * this.sizeX + x - this.minX]] : null;
+    }
+
+    public IBlockState getBlockState(BlockPos pos) {
+        return this.getBlockState(pos.x, pos.y, pos.z);
+    }
+
+    public Block getBlock(BlockPos pos) {
+        IBlockState state = this.getBlockState(pos);
+
+        return state == null ? null : state.getBlock();
+    }
+
+    public boolean isAir(BlockPos pos) {
+        return this.getBlock(pos) == Blocks.AIR;
+    }
+
+    public List getEntities() {
+        return this.entities;
+    }
+
+    public List getEntities(Class type) {
+        ArrayList found = new ArrayList();
+
+        for (int i = 0; i < this.entities.size(); ++i) {
+            WorldSnapshot.Entry entry = (WorldSnapshot.Entry) this.entities.get(i);
+
+            if (type.isAssignableFrom(entry.type)) {
+                found.add(entry);
+            }
+        }
+
+        return found;
+    }
+
+    public static class Entry {
+
+        public final int id;
+        public final Class type;
+        public final double posX;
+        public final double posY;
+        public final double posZ;
+        public final AxisAlignedBB box;
+        public final float health;
+
+        private Entry(Entity entity) {
+            this.id = entity.getEntityId();
+            this.type = entity.getClass();
+            this.posX = entity.posX;
+            this.posY = entity.posY;
+            this.posZ = entity.posZ;
+            this.box = entity.getEntityBoundingBox();
+            this.health = entity instanceof EntityLivingBase ? ((EntityLivingBase) entity).getHealth() + ((EntityLivingBase) entity).getAbsorptionAmount() : 0.0F;
+        }
+
+        public double getDistanceSq(BlockPos pos) {
+            double x = (double) pos.x - this.posX;
+            double y = (double) pos.y - this.posY;
+            double z = (double) pos.z - this.posZ;
+
+            return x * x + y * y + z * z;
+        }
+    }
+}
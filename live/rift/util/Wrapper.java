@@ -19,6 +19,15 @@ public class Wrapper {
         return getMinecraft().world;
     }
 
+    public static void runOnClientThread(Runnable task) {
+        if (getMinecraft().isCallingFromMinecraftThread()) {
+            task.run();
+        } else {
+            getMinecraft().addScheduledTask(task);
+        }
+
+    }
+
     public static int getKey(String keyname) {
         return Keyboard.getKeyIndex(keyname.toUpperCase());
     }
@@ -16,6 +16,8 @@ public interface EventBus {
 
     void post(Object object);
 
+    boolean hasListeners(Class oclass, Class oclass1);
+
     void attach(EventBus eventbus);
 
     void detach(EventBus eventbus);
@@ -3,35 +3,80 @@ package me.zero.alpine;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.function.Consumer;
-import java.util.function.Function;
-import java.util.function.Predicate;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 import me.zero.alpine.listener.EventHandler;
+import me.zero.alpine.listener.EventHook;
 import me.zero.alpine.listener.Listener;
+import me.zero.alpine.listener.Mailbox;
+import me.zero.alpine.metrics.ListenerStats;
+import me.zero.alpine.metrics.MeteredHook;
+import me.zero.alpine.type.Cancellable;
+import me.zero.alpine.type.Keyed;
 
 public class EventManager implements EventBus {
 
-    private final Map SUBSCRIPTION_CACHE = new HashMap();
-    private final Map SUBSCRIPTION_MAP = new HashMap();
-    private final List ATTACHED_BUSES = new ArrayList();
+    private static final Listener[] NO_LISTENERS = new Listener[0];
+    private static final EventBus[] NO_BUSES = new EventBus[0];
+    private static final Comparator PRIORITY_ORDER = Comparator.comparingInt(Listener::getPriority);
+    private final Map SUBSCRIPTION_CACHE = new ConcurrentHashMap();
+    private final Map SUBSCRIPTION_MAP = new ConcurrentHashMap();
+    private final Map LISTENER_OWNERS = new ConcurrentHashMap();
+    private final Map METRICS = new ConcurrentHashMap();
+    private volatile Map dispatchCache = new ConcurrentHashMap();
+    private volatile boolean metricsEnabled;
+    private final Set ACTIVE_SUBSCRIBERS = Collections.newSetFromMap(new IdentityHashMap());
+    private final List ATTACHED_BUSES = new CopyOnWriteArrayList();
+    private volatile EventBus[] attachedBuses;
+    private final boolean cancelShortCircuit;
+
+    public EventManager() {
+        this(false);
+    }
+
+    public EventManager(boolean cancelShortCircuit) {
+        this.attachedBuses = EventManager.NO_BUSES;
+        this.cancelShortCircuit = cancelShortCircuit;
+    }
 
     public void subscribe(Object object) {
         List listeners = (List) this.SUBSCRIPTION_CACHE.computeIfAbsent(object, (o) -> {
-            return (List) Arrays.stream(o.getClass().getDeclaredFields()).filter(EventManager::isValidField).map((field) -> {
-                return asListener(o, field);
+            Mailbox mailbox = new Mailbox();
+
+            List objectListeners = (List) Arrays.stream(o.getClass().getDeclaredFields()).filter(EventManager::isValidField).map((field) -> {
+                return asListener(o, field, mailbox);
             }).filter(Objects::nonNull).collect(Collectors.toList());
+
+            for (int i = 0; i < objectListeners.size(); ++i) {
+                this.LISTENER_OWNERS.put(objectListeners.get(i), o.getClass());
+            }
+
+            return objectListeners;
         });
 
-        listeners.forEach(this::subscribe);
-        if (!this.ATTACHED_BUSES.isEmpty()) {
-            this.ATTACHED_BUSES.forEach((bus) -> {
-                bus.subscribe(object);
-            });
+        synchronized (this.SUBSCRIPTION_MAP) {
+            if (this.ACTIVE_SUBSCRIBERS.add(object)) {
+                for (int i = 0; i < listeners.size(); ++i) {
+                    this.subscribe((Listener) listeners.get(i));
+                }
+            }
+        }
+
+        EventBus[] buses = this.attachedBuses;
+
+        for (int i = 0; i < buses.length; ++i) {
+            buses[i].subscribe(object);
         }
 
     }
@@ -48,14 +93,18 @@ public class EventManager implements EventBus {
         List objectListeners = (List) this.SUBSCRIPTION_CACHE.get(object);
 
         if (objectListeners != null) {
-            this.SUBSCRIPTION_MAP.values().forEach((listeners) -> {
-                Objects.requireNonNull(objectListeners);
-                listeners.removeIf(objectListeners::contains);
-            });
-            if (!this.ATTACHED_BUSES.isEmpty()) {
-                this.ATTACHED_BUSES.forEach((bus) -> {
-                    bus.unsubscribe(object);
-                });
+            synchronized (this.SUBSCRIPTION_MAP) {
+                if (this.ACTIVE_SUBSCRIBERS.remove(object)) {
+                    for (int i = 0; i < objectListeners.size(); ++i) {
+                        this.unsubscribe((Listener) objectListeners.get(i));
+                    }
+                }
+            }
+
+            EventBus[] buses = this.attachedBuses;
+
+            for (int i = 0; i < buses.length; ++i) {
+                buses[i].unsubscribe(object);
             }
 
         }
@@ -70,32 +119,83 @@ public class EventManager implements EventBus {
     }
 
     public void post(Object event) {
-        List listeners = (List) this.SUBSCRIPTION_MAP.get(event.getClass());
+        EventManager.Dispatch dispatch = this.dispatch(event.getClass());
+        EventHook[] listeners = event instanceof Keyed ? dispatch.get(((Keyed) event).getKey()) : dispatch.hooks;
 
-        if (listeners != null) {
-            listeners.forEach((listener) -> {
-                listener.invoke(event);
-            });
+        if (listeners.length > 0) {
+            if (this.cancelShortCircuit && event instanceof Cancellable) {
+                Cancellable cancellable = (Cancellable) event;
+
+                for (int i = 0; i < listeners.length && !cancellable.isCancelled(); ++i) {
+                    listeners[i].invoke(event);
+                }
+            } else {
+                for (int i = 0; i < listeners.length; ++i) {
+                    listeners[i].invoke(event);
+                }
+            }
         }
 
-        if (!this.ATTACHED_BUSES.isEmpty()) {
-            this.ATTACHED_BUSES.forEach((bus) -> {
-                bus.post(event);
-            });
+        EventBus[] buses = this.attachedBuses;
+
+        for (int i = 0; i < buses.length; ++i) {
+            buses[i].post(event);
         }
 
     }
 
+    public boolean hasListeners(Class type, Class key) {
+        if (this.dispatch(type).get(key).length > 0) {
+            return true;
+        } else {
+            EventBus[] buses = this.attachedBuses;
+
+            for (int i = 0; i < buses.length; ++i) {
+                if (buses[i].hasListeners(type, key)) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+    }
+
+    public boolean isMetricsEnabled() {
+        return this.metricsEnabled;
+    }
+
+    public void setMetricsEnabled(boolean metricsEnabled) {
+        synchronized (this.SUBSCRIPTION_MAP) {
+            this.metricsEnabled = metricsEnabled;
+            this.dispatchCache = new ConcurrentHashMap();
+        }
+    }
+
+    public Collection getMetrics() {
+        return Collections.unmodifiableCollection(this.METRICS.values());
+    }
+
+    public void resetMetrics() {
+        this.METRICS.values().forEach((stats) -> {
+            ((ListenerStats) stats).reset();
+        });
+    }
+
     public void attach(EventBus bus) {
-        if (!this.ATTACHED_BUSES.contains(bus)) {
-            this.ATTACHED_BUSES.add(bus);
+        synchronized (this.ATTACHED_BUSES) {
+            if (!this.ATTACHED_BUSES.contains(bus)) {
+                this.ATTACHED_BUSES.add(bus);
+                this.attachedBuses = (EventBus[]) this.ATTACHED_BUSES.toArray(EventManager.NO_BUSES);
+            }
         }
 
     }
 
     public void detach(EventBus bus) {
-        if (this.ATTACHED_BUSES.contains(bus)) {
-            this.ATTACHED_BUSES.remove(bus);
+        synchronized (this.ATTACHED_BUSES) {
+            if (this.ATTACHED_BUSES.remove(bus)) {
+                this.attachedBuses = (EventBus[]) this.ATTACHED_BUSES.toArray(EventManager.NO_BUSES);
+            }
         }
 
     }
@@ -104,7 +204,7 @@ public class EventManager implements EventBus {
         return field.isAnnotationPresent(EventHandler.class) && Listener.class.isAssignableFrom(field.getType());
     }
 
-    private static Listener asListener(Object object, Field field) {
+    private static Listener asListener(Object object, Field field, Mailbox mailbox) {
         try {
             boolean e = field.isAccessible();
 
@@ -115,7 +215,7 @@ public class EventManager implements EventBus {
             if (listener == null) {
                 return null;
             } else if (listener.getPriority() <= 5 && listener.getPriority() >= 1) {
-                return listener;
+                return ((EventHandler) field.getAnnotation(EventHandler.class)).async() ? listener.async(mailbox) : listener;
             } else {
                 throw new RuntimeException("Event Priority out of bounds! %s");
             }
@@ -125,16 +225,152 @@ public class EventManager implements EventBus {
     }
 
     private void subscribe(Listener listener) {
-        List listeners = (List) this.SUBSCRIPTION_MAP.computeIfAbsent(listener.getTarget(), (target) -> {
-            return new ArrayList();
-        });
-
+        Listener[] listeners = (Listener[]) this.SUBSCRIPTION_MAP.getOrDefault(listener.getTarget(), EventManager.NO_LISTENERS);
         int index;
 
-        for (index = 0; index < listeners.size() && listener.getPriority() >= ((Listener) listeners.get(index)).getPriority(); ++index) {
+        for (index = 0; index < listeners.length && listener.getPriority() >= listeners[index].getPriority(); ++index) {
             ;
         }
 
-        listeners.add(index, listener);
+        Listener[] updated = new Listener[listeners.length + 1];
+
+        System.arraycopy(listeners, 0, updated, 0, index);
+        updated[index] = listener;
+        System.arraycopy(listeners, index, updated, index + 1, listeners.length - index);
+        this.publish(listener.getTarget(), updated);
+    }
+
+    private void unsubscribe(Listener listener) {
+        Listener[] listeners = (Listener[]) this.SUBSCRIPTION_MAP.get(listener.getTarget());
+
+        if (listeners != null) {
+            int index;
+
+            for (index = 0; index < listeners.length && listeners[index] != listener; ++index) {
+                ;
+            }
+
+            if (index < listeners.length) {
+                Listener[] updated = new Listener[listeners.length - 1];
+
+                System.arraycopy(listeners, 0, updated, 0, index);
+                System.arraycopy(listeners, index + 1, updated, index, updated.length - index);
+                this.publish(listener.getTarget(), updated);
+            }
+        }
+    }
+
+    private void publish(Class target, Listener[] listeners) {
+        if (listeners.length == 0) {
+            this.SUBSCRIPTION_MAP.remove(target);
+        } else {
+            this.SUBSCRIPTION_MAP.put(target, listeners);
+        }
+
+        this.dispatchCache = new ConcurrentHashMap();
+    }
+
+    private EventManager.Dispatch dispatch(Class type) {
+        Map cache = this.dispatchCache;
+        EventManager.Dispatch dispatch = (EventManager.Dispatch) cache.get(type);
+
+        if (dispatch == null) {
+            dispatch = new EventManager.Dispatch(this.flatten(type), this.metricsEnabled);
+            cache.put(type, dispatch);
+        }
+
+        return dispatch;
+    }
+
+    private Listener[] flatten(Class type) {
+        LinkedHashSet hierarchy = new LinkedHashSet();
+
+        collectHierarchy(type, hierarchy);
+        ArrayList flattened = new ArrayList();
+        Iterator iterator = hierarchy.iterator();
+
+        while (iterator.hasNext()) {
+            Listener[] listeners = (Listener[]) this.SUBSCRIPTION_MAP.get(iterator.next());
+
+            if (listeners != null) {
+                flattened.addAll(Arrays.asList(listeners));
+            }
+        }
+
+        flattened.sort(EventManager.PRIORITY_ORDER);
+        return (Listener[]) flattened.toArray(EventManager.NO_LISTENERS);
+    }
+
+    private static void collectHierarchy(Class type, Set hierarchy) {
+        if (type != null && type != Object.class && hierarchy.add(type)) {
+            Class[] interfaces = type.getInterfaces();
+
+            collectHierarchy(type.getSuperclass(), hierarchy);
+
+            for (int i = 0; i < interfaces.length; ++i) {
+                collectHierarchy(interfaces[i], hierarchy);
+            }
+
+        }
+
+    }
+
+    private EventHook[] compile(Listener[] listeners, Class key, boolean metered) {
+        int count = 0;
+
+        for (int i = 0; i < listeners.length; ++i) {
+            if (listeners[i].accepts(key)) {
+                ++count;
+            }
+        }
+
+        EventHook[] hooks = new EventHook[count];
+        int index = 0;
+
+        for (int i = 0; i < listeners.length; ++i) {
+            if (listeners[i].accepts(key)) {
+                hooks[index++] = metered ? this.meter(listeners[i]) : listeners[i].getInvoker();
+            }
+        }
+
+        return hooks;
+    }
+
+    private EventHook meter(Listener listener) {
+        Class owner = (Class) this.LISTENER_OWNERS.getOrDefault(listener, Object.class);
+        ListenerStats stats = (ListenerStats) this.METRICS.computeIfAbsent(owner.getName() + "|" + listener.getTarget().getName(), (id) -> {
+            return new ListenerStats(owner, listener.getTarget());
+        });
+
+        return new MeteredHook(listener.getInvoker(), stats);
+    }
+
+    private final class Dispatch {
+
+        private final Listener[] listeners;
+        private final boolean metered;
+        private final EventHook[] hooks;
+        private final Map cache = new ConcurrentHashMap();
+
+        Dispatch(Listener[] listeners, boolean metered) {
+            this.listeners = listeners;
+            this.metered = metered;
+            this.hooks = EventManager.this.compile(listeners, (Class) null, metered);
+        }
+
+        EventHook[] get(Class key) {
+            if (key == null) {
+                return this.hooks;
+            } else {
+                EventHook[] hooks = (EventHook[]) this.cache.get(key);
+
+                if (hooks == null) {
+                    hooks = EventManager.this.compile(this.listeners, key, this.metered);
+                    this.cache.put(key, hooks);
+                }
+
+                return hooks;
+            }
+        }
     }
 }
@@ -0,0 +1,70 @@
+package me.zero.alpine.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Predicate;
+import live.rift.event.events.PacketEvent;
+import me.zero.alpine.EventManager;
+import me.zero.alpine.listener.EventHandler;
+import me.zero.alpine.listener.Listener;
+
+public class PoolAllocationCheck {
+
+    private static final int POSTS = 1000000;
+    private static long sink;
+
+    public static void main(String[] args) {
+        EventManager bus = new EventManager(true);
+        PoolAllocationCheck.Subscriber subscriber = new PoolAllocationCheck.Subscriber();
+
+        bus.subscribe((Object) subscriber);
+        PoolAllocationCheck.run(bus);
+        long pooled = PoolAllocationCheck.run(bus);
+
+        subscriber.retain = true;
+        long retained = PoolAllocationCheck.run(bus);
+
+        System.out.println("PacketEvent.Receive pool path, " + PoolAllocationCheck.POSTS + " posts");
+        System.out.println("  released: " + pooled + " bytes allocated, " + (double) pooled / (double) PoolAllocationCheck.POSTS + " per post");
+        System.out.println("  retained: " + retained + " bytes allocated, " + (double) retained / (double) PoolAllocationCheck.POSTS + " per post");
+        if (pooled < 0L) {
+            System.out.println("Thread allocation counters are not available on this JVM");
+        } else if (pooled >= (long) (PoolAllocationCheck.POSTS / 100) || retained < (long) PoolAllocationCheck.POSTS) {
+            throw new IllegalStateException("PacketEvent.Receive pool allocated " + pooled + " bytes released, " + retained + " bytes retained");
+        } else {
+            System.out.println("OK (checksum " + PoolAllocationCheck.sink + ")");
+        }
+
+    }
+
+    private static long run(EventManager bus) {
+        long bytes = PoolAllocationCheck.allocatedBytes();
+
+        for (int i = 0; i < PoolAllocationCheck.POSTS; ++i) {
+            PacketEvent.Receive event = PacketEvent.Receive.obtain(null);
+
+            bus.post(event);
+            event.release();
+        }
+
+        return bytes < 0L ? -1L : PoolAllocationCheck.allocatedBytes() - bytes;
+    }
+
+    private static long allocatedBytes() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+
+        return bean instanceof com.sun.management.ThreadMXBean ? ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(Thread.currentThread().getId()) : -1L;
+    }
+
+    private static class Subscriber {
+
+        private boolean retain;
+        @EventHandler
+        private Listener packetListener = new Listener(PacketEvent.Receive.class, (event) -> {
+            ++PoolAllocationCheck.sink;
+            if (this.retain) {
+                ((PacketEvent.Receive) event).retain();
+            }
+
+        }, new Predicate[0]);
+    }
+}
@@ -0,0 +1,185 @@
+package me.zero.alpine.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import me.zero.alpine.EventBus;
+import me.zero.alpine.EventManager;
+import me.zero.alpine.listener.EventHandler;
+import me.zero.alpine.listener.Listener;
+import me.zero.alpine.type.Cancellable;
+
+public class PostBenchmark {
+
+    private static final int ROUNDS = 5;
+    private static final int POSTS = 2000000;
+    private static long sink;
+
+    public static void main(String[] args) {
+        int subscribers = args.length > 0 ? Integer.parseInt(args[0]) : 60;
+        EventManager bus = new EventManager(true);
+        PostBenchmark.BaselineBus baseline = new PostBenchmark.BaselineBus();
+
+        for (int i = 0; i < subscribers; ++i) {
+            PostBenchmark.Subscriber subscriber = new PostBenchmark.Subscriber(i);
+
+            bus.subscribe((Object) subscriber);
+            baseline.subscribe(subscriber);
+        }
+
+        System.out.println("Alpine post benchmark: " + subscribers + " subscribers, " + PostBenchmark.POSTS + " posts per round");
+        PostBenchmark.run("warmup baseline", baseline, 2);
+        PostBenchmark.run("warmup compiled", bus, 2);
+        PostBenchmark.run("baseline", baseline, PostBenchmark.ROUNDS);
+        PostBenchmark.run("compiled", bus, PostBenchmark.ROUNDS);
+        System.out.println("(checksum " + PostBenchmark.sink + ")");
+    }
+
+    private static void run(String name, EventBus bus, int rounds) {
+        PostBenchmark.TickEvent event = new PostBenchmark.TickEvent();
+        double best = 0.0D;
+        long allocated = 0L;
+
+        for (int round = 0; round < rounds; ++round) {
+            long bytes = PostBenchmark.allocatedBytes();
+            long start = System.nanoTime();
+
+            for (int i = 0; i < PostBenchmark.POSTS; ++i) {
+                event.value = i;
+                bus.post(event);
+            }
+
+            long elapsed = System.nanoTime() - start;
+
+            allocated = PostBenchmark.allocatedBytes() - bytes;
+            best = Math.max(best, (double) PostBenchmark.POSTS * 1.0E9D / (double) elapsed);
+        }
+
+        PostBenchmark.sink += event.value;
+        if (!name.startsWith("warmup")) {
+            System.out.println(String.format("%-9s %,14.0f posts/s  %8.2f bytes/post", new Object[] { name, Double.valueOf(best), Double.valueOf(allocated < 0L ? -1.0D : (double) allocated / (double) PostBenchmark.POSTS)}));
+        }
+
+    }
+
+    private static long allocatedBytes() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+
+        return bean instanceof com.sun.management.ThreadMXBean ? ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(Thread.currentThread().getId()) : -1L;
+    }
+
+    public static class TickEvent extends Cancellable {
+
+        private int value;
+    }
+
+    public static class OtherEvent {}
+
+    public static class Subscriber {
+
+        private final int id;
+        private long seen;
+        @EventHandler
+        private Listener tickListener;
+        @EventHandler
+        private Listener filteredListener;
+        @EventHandler
+        private Listener otherListener;
+
+        Subscriber(int id) {
+            this.id = id;
+            this.tickListener = new Listener(PostBenchmark.TickEvent.class, (event) -> {
+                this.seen += (long) ((PostBenchmark.TickEvent) event).value;
+            }, new Predicate[0]);
+            this.filteredListener = id % 4 == 0 ? new Listener(PostBenchmark.TickEvent.class, (event) -> {
+                ++this.seen;
+            }, new Predicate[] { (event) -> {
+                    return (((PostBenchmark.TickEvent) event).value & 1) == 0;
+                }}) : null;
+            this.otherListener = new Listener(PostBenchmark.OtherEvent.class, (event) -> {
+                PostBenchmark.sink += (long) this.id;
+            }, new Predicate[0]);
+        }
+    }
+
+    private static class BaselineBus implements EventBus {
+
+        private final Map SUBSCRIPTION_MAP = new HashMap();
+        private final List ATTACHED_BUSES = new ArrayList();
+
+        public void subscribe(Object object) {
+            Field[] fields = object.getClass().getDeclaredFields();
+
+            for (int i = 0; i < fields.length; ++i) {
+                if (fields[i].isAnnotationPresent(EventHandler.class) && Listener.class.isAssignableFrom(fields[i].getType())) {
+                    try {
+                        fields[i].setAccessible(true);
+                        Listener listener = (Listener) fields[i].get(object);
+
+                        if (listener != null) {
+                            List listeners = (List) this.SUBSCRIPTION_MAP.computeIfAbsent(listener.getTarget(), (target) -> {
+                                return new ArrayList();
+                            });
+                            int index;
+
+                            for (index = 0; index < listeners.size() && listener.getPriority() >= ((Listener) listeners.get(index)).getPriority(); ++index) {
+                                ;
+                            }
+
+                            listeners.add(index, listener);
+                        }
+                    } catch (IllegalAccessException illegalaccessexception) {
+                        illegalaccessexception.printStackTrace();
+                    }
+                }
+            }
+
+        }
+
+        public void subscribe(Object... objects) {
+            for (int i = 0; i < objects.length; ++i) {
+                this.subscribe(objects[i]);
+            }
+
+        }
+
+        public void subscribe(Iterable objects) {
+            objects.forEach(this::subscribe);
+        }
+
+        public void unsubscribe(Object object) {}
+
+        public void unsubscribe(Object... objects) {}
+
+        public void unsubscribe(Iterable objects) {}
+
+        public void post(Object event) {
+            List listeners = (List) this.SUBSCRIPTION_MAP.get(event.getClass());
+
+            if (listeners != null) {
+                listeners.forEach((listener) -> {
+                    ((Listener) listener).invoke(event);
+                });
+            }
+
+            if (!this.ATTACHED_BUSES.isEmpty()) {
+                this.ATTACHED_BUSES.forEach((bus) -> {
+                    ((EventBus) bus).post(event);
+                });
+            }
+
+        }
+
+        public boolean hasListeners(Class type, Class key) {
+            return this.SUBSCRIPTION_MAP.containsKey(type);
+        }
+
+        public void attach(EventBus bus) {}
+
+        public void detach(EventBus bus) {}
+    }
+}
@@ -7,4 +7,7 @@ import java.lang.annotation.Target;
 
 @Retention(RetentionPolicy.RUNTIME)
 @Target({ ElementType.FIELD})
-public @interface EventHandler {}
+public @interface EventHandler {
+
+    boolean async() default false;
+}
@@ -1,11 +1,13 @@
 package me.zero.alpine.listener;
 
 import java.util.function.Predicate;
+import me.zero.alpine.type.Retainable;
 import net.jodah.typetools.TypeResolver;
 
 public final class Listener implements EventHook {
 
     private final Class target;
+    private final Class key;
     private final EventHook hook;
     private final Predicate[] filters;
     private final byte priority;
@@ -17,20 +19,75 @@ public final class Listener implements EventHook {
 
     @SafeVarargs
     public Listener(EventHook hook, byte priority, Predicate... filters) {
+        this(hook, (Class) null, priority, filters);
+    }
+
+    @SafeVarargs
+    public Listener(EventHook hook, Class key, Predicate... filters) {
+        this(hook, key, (byte) 3, filters);
+    }
+
+    @SafeVarargs
+    public Listener(EventHook hook, Class key, byte priority, Predicate... filters) {
+        this(TypeResolver.resolveRawArgument(EventHook.class, hook.getClass()), hook, key, priority, filters);
+    }
+
+    @SafeVarargs
+    public Listener(Class target, EventHook hook, Predicate... filters) {
+        this(target, hook, (Class) null, (byte) 3, filters);
+    }
+
+    @SafeVarargs
+    public Listener(Class target, EventHook hook, byte priority, Predicate... filters) {
+        this(target, hook, (Class) null, priority, filters);
+    }
+
+    @SafeVarargs
+    public Listener(Class target, EventHook hook, Class key, Predicate... filters) {
+        this(target, hook, key, (byte) 3, filters);
+    }
+
+    @SafeVarargs
+    public Listener(Class target, EventHook hook, Class key, byte priority, Predicate... filters) {
         this.hook = hook;
+        this.key = key;
         this.priority = priority;
-        this.target = TypeResolver.resolveRawArgument(EventHook.class, hook.getClass());
+        this.target = target;
         this.filters = filters;
     }
 
+    public final Listener async(Mailbox mailbox) {
+        return new Listener(this.target, (event) -> {
+            if (event instanceof Retainable) {
+                ((Retainable) event).retain();
+            }
+
+            mailbox.post(() -> {
+                this.invoke(event);
+            });
+        }, this.key, this.priority, new Predicate[0]);
+    }
+
     public final Class getTarget() {
         return this.target;
     }
 
+    public final Class getKey() {
+        return this.key;
+    }
+
+    public final boolean accepts(Class key) {
+        return this.key == null || key != null && this.key.isAssignableFrom(key);
+    }
+
     public final byte getPriority() {
         return this.priority;
     }
 
+    public final EventHook getInvoker() {
+        return this.filters.length == 0 ? this.hook : this;
+    }
+
     public final void invoke(Object event) {
         if (this.filters.length > 0) {
             Predicate[] apredicate = this.filters;
@@ -0,0 +1,56 @@
+package me.zero.alpine.listener;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class Mailbox implements Runnable {
+
+    private static final AtomicInteger THREAD_ID = new AtomicInteger();
+    private static final ExecutorService WORKERS = Executors.newFixedThreadPool(Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1)), (runnable) -> {
+        Thread thread = new Thread(runnable, "Alpine Async " + Mailbox.THREAD_ID.incrementAndGet());
+
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Queue messages = new ConcurrentLinkedQueue();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final Executor executor;
+
+    public Mailbox() {
+        this(Mailbox.WORKERS);
+    }
+
+    public Mailbox(Executor executor) {
+        this.executor = executor;
+    }
+
+    public void post(Runnable message) {
+        this.messages.add(message);
+        if (this.scheduled.compareAndSet(false, true)) {
+            this.executor.execute(this);
+        }
+
+    }
+
+    public void run() {
+        do {
+            Runnable message;
+
+            while ((message = (Runnable) this.messages.poll()) != null) {
+                try {
+                    message.run();
+                } catch (Throwable throwable) {
+                    throwable.printStackTrace();
+                }
+            }
+
+            this.scheduled.set(false);
+        } while (!this.messages.isEmpty() && this.scheduled.compareAndSet(false, true));
+
+    }
+}
@@ -0,0 +1,60 @@
+package me.zero.alpine.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class ListenerStats {
+
+    private final Class subscriber;
+    private final Class event;
+    private final LongAdder invocations = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+    private final LongAdder cancellations = new LongAdder();
+
+    public ListenerStats(Class subscriber, Class event) {
+        this.subscriber = subscriber;
+        this.event = event;
+    }
+
+    public void record(long nanos, boolean cancelled) {
+        this.invocations.increment();
+        this.totalNanos.add(nanos);
+        this.maxNanos.accumulate(nanos);
+        if (cancelled) {
+            this.cancellations.increment();
+        }
+
+    }
+
+    public void reset() {
+        this.invocations.reset();
+        this.totalNanos.reset();
+        this.maxNanos.reset();
+        this.cancellations.reset();
+    }
+
+    public Class getSubscriber() {
+        return this.subscriber;
+    }
+
+    public Class getEvent() {
+        return this.event;
+    }
+
+    public long getInvocations() {
+        return this.invocations.sum();
+    }
+
+    public long getTotalNanos() {
+        return this.totalNanos.sum();
+    }
+
+    public long getMaxNanos() {
+        return this.maxNanos.get();
+    }
+
+    public long getCancellations() {
+        return this.cancellations.sum();
+    }
+}
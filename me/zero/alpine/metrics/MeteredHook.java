@@ -0,0 +1,28 @@
+package me.zero.alpine.metrics;
+
+import me.zero.alpine.listener.EventHook;
+import me.zero.alpine.type.Cancellable;
+
+public final class MeteredHook implements EventHook {
+
+    private final EventHook hook;
+    private final ListenerStats stats;
+
+    public MeteredHook(EventHook hook, ListenerStats stats) {
+        this.hook = hook;
+        this.stats = stats;
+    }
+
+    public void invoke(Object event) {
+        boolean cancellable = event instanceof Cancellable;
+        boolean wasCancelled = cancellable && ((Cancellable) event).isCancelled();
+        long start = System.nanoTime();
+
+        try {
+            this.hook.invoke(event);
+        } finally {
+            this.stats.record(System.nanoTime() - start, cancellable && !wasCancelled && ((Cancellable) event).isCancelled());
+        }
+
+    }
+}
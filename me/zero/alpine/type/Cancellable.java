@@ -11,4 +11,8 @@ public class Cancellable {
     public final boolean isCancelled() {
         return this.cancelled;
     }
+
+    protected final void setCancelled(boolean cancelled) {
+        this.cancelled = cancelled;
+    }
 }
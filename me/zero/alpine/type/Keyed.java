@@ -0,0 +1,6 @@
+package me.zero.alpine.type;
+
+public interface Keyed {
+
+    Class getKey();
+}